@@ -0,0 +1,39 @@
+package org.mentalk.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.response.ApiResponse;
+import org.mentalk.common.response.ErrorResponses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class ApiResponseBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public byte[] success() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(Map.of("role", "USER")));
+    }
+
+    @Benchmark
+    public byte[] failure() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.failure(ErrorCode.UNAUTHORIZED.getCode(),
+                                                                  ErrorCode.UNAUTHORIZED.getMessage()));
+    }
+
+    @Benchmark
+    public byte[] preRenderedFailure() {
+        return ErrorResponses.body(ErrorCode.UNAUTHORIZED);
+    }
+}
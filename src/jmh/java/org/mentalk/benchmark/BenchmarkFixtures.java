@@ -0,0 +1,9 @@
+package org.mentalk.benchmark;
+
+final class BenchmarkFixtures {
+
+    static final String SECRET_KEY = "benchmark-jwt-secret-key-benchmark-jwt-secret-key";
+
+    private BenchmarkFixtures() {
+    }
+}
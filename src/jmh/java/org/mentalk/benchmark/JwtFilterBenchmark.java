@@ -0,0 +1,76 @@
+package org.mentalk.benchmark;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import java.io.IOException;
+import org.mentalk.common.enums.Role;
+import org.mentalk.common.security.JwtFilter;
+import org.mentalk.common.security.JwtUtil;
+import org.mentalk.common.security.TokenRevocationList;
+import org.mentalk.common.security.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private JwtFilter jwtFilter;
+    private JwtFilter uncachedJwtFilter;
+    private Cookie tokenCookie;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(BenchmarkFixtures.SECRET_KEY);
+        jwtFilter = new JwtFilter(new VerifiedTokenCache(jwtUtil, 10_000),
+                                  new TokenRevocationList());
+        uncachedJwtFilter = new JwtFilter(new VerifiedTokenCache(jwtUtil, 0),
+                                          new TokenRevocationList());
+        tokenCookie = new Cookie("access_token", jwtUtil.createToken(1L, Role.USER));
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sessions");
+        request.setCookies(tokenCookie);
+
+        return filter(request);
+    }
+
+    @Benchmark
+    public Object authenticatedRequestWithoutCache() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sessions");
+        request.setCookies(tokenCookie);
+
+        return filter(uncachedJwtFilter, request);
+    }
+
+    @Benchmark
+    public Object anonymousRequest() throws ServletException, IOException {
+        return filter(new MockHttpServletRequest("POST", "/api/auth/login"));
+    }
+
+    @Benchmark
+    public Object anonymousProtectedRequest() throws ServletException, IOException {
+        return filter(new MockHttpServletRequest("GET", "/api/sessions"));
+    }
+
+    private Object filter(MockHttpServletRequest request) throws ServletException, IOException {
+        return filter(jwtFilter, request);
+    }
+
+    private Object filter(JwtFilter filter, MockHttpServletRequest request)
+            throws ServletException, IOException {
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.mentalk.benchmark;
+
+import java.util.Optional;
+import org.mentalk.common.enums.Role;
+import org.mentalk.common.security.JwtUtil;
+import org.mentalk.common.security.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    @Param({"jws", "binary"})
+    private String codec;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(BenchmarkFixtures.SECRET_KEY, codec, 1);
+        token = jwtUtil.createToken(1L, Role.USER);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, Role.USER);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verify() {
+        return jwtUtil.verify(token);
+    }
+}
@@ -0,0 +1,67 @@
+package org.mentalk.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+final class LatencyStats {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    LatencyStats() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, newHistogram());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    }
+
+    void record(Operation operation, long latencyNanos, boolean success, String outcome) {
+        histograms.get(operation).recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+        outcomes.computeIfAbsent(operation.name() + " " + outcome, key -> new LongAdder())
+                .increment();
+    }
+
+    void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+        outcomes.clear();
+    }
+
+    Histogram histogram(Operation operation) {
+        return histograms.get(operation);
+    }
+
+    long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+
+    Map<String, LongAdder> outcomes() {
+        return outcomes;
+    }
+
+    Histogram total() {
+        Histogram total = newHistogram();
+        histograms.values().forEach(total::add);
+        return total;
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+}
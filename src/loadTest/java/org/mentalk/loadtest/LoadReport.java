@@ -0,0 +1,109 @@
+package org.mentalk.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import org.HdrHistogram.Histogram;
+
+record LoadReport(LoadTestConfig config,
+                  LatencyStats stats,
+                  Duration elapsed) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    double throughput() {
+        return stats.total().getTotalCount() / seconds();
+    }
+
+    double errorRate() {
+        long count = stats.total().getTotalCount();
+        return count == 0 ? 1.0 : (double) stats.totalErrors() / count;
+    }
+
+    double p99Millis() {
+        return stats.total().getValueAtPercentile(99) / NANOS_PER_MILLI;
+    }
+
+    // 목표 도착률을 따라가지 못했거나 오류율, p99가 기준을 넘으면 위반 항목을 돌려준다.
+    List<String> violations() {
+        List<String> violations = new ArrayList<>();
+
+        double minThroughput = config.ratePerSecond() * config.minThroughputRatio();
+        if (throughput() < minThroughput) {
+            violations.add("throughput %.1f req/s < %.1f req/s".formatted(throughput(),
+                                                                          minThroughput));
+        }
+        if (errorRate() > config.maxErrorRate()) {
+            violations.add("error rate %.2f%% > %.2f%%".formatted(errorRate() * 100,
+                                                                 config.maxErrorRate() * 100));
+        }
+        if (config.maxP99Millis() > 0 && p99Millis() > config.maxP99Millis()) {
+            violations.add("p99 %.1f ms > %.1f ms".formatted(p99Millis(), config.maxP99Millis()));
+        }
+
+        return violations;
+    }
+
+    void write(Path path) throws IOException {
+        if (path.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        }
+
+        try (PrintStream out = new PrintStream(Files.newOutputStream(path), false,
+                                               StandardCharsets.UTF_8)) {
+            print(out);
+        }
+    }
+
+    void print(PrintStream out) {
+        out.printf("target rate      %.1f req/s (open model, poisson arrivals)%n",
+                   config.ratePerSecond());
+        out.printf("mix              %s%n", config.mix());
+        out.printf("warmup/measured  %ds/%ds (elapsed %.1fs)%n", config.warmup().toSeconds(),
+                   config.duration().toSeconds(), seconds());
+        out.printf("throughput       %.1f req/s%n", throughput());
+        out.printf("error rate       %.2f%%%n%n", errorRate() * 100);
+
+        out.printf("%-16s %8s %7s %9s %9s %9s %9s %9s %9s%n", "operation", "count", "errors",
+                   "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            printRow(out, operation.name().toLowerCase(), stats.histogram(operation),
+                     stats.errors(operation));
+        }
+        printRow(out, "total", stats.total(), stats.totalErrors());
+
+        out.printf("%noutcomes%n");
+        new TreeMap<>(stats.outcomes()).forEach(
+                (outcome, count) -> out.printf("  %-32s %d%n", outcome, count.sum()));
+
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = stats.histogram(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            out.printf("%n== %s latency distribution (ms)%n", operation.name().toLowerCase());
+            histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+
+    private void printRow(PrintStream out, String name, Histogram histogram, long errors) {
+        out.printf("%-16s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+                   histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds(),
+                   millis(histogram, 50), millis(histogram, 90), millis(histogram, 99),
+                   millis(histogram, 99.9), histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    private double seconds() {
+        return Math.max(elapsed.toNanos(), 1) / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,127 @@
+package org.mentalk.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 부하 전에 로그인할 회원과 세션을 만들 멘토를 준비하고, 작업별 요청을 만든다.
+final class LoadScenario {
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final String[] SESSION_TYPES = {"MENTORING", "LECTURE", "COFFEE_CHAT"};
+    // 준비 단계의 회원가입, 로그인도 해시 스레드 풀을 거치므로 큐를 넘지 않게 동시 실행 수를 제한한다.
+    private static final int SEED_CONCURRENCY = 8;
+
+    private final MentalkClient client;
+    private final List<String> userEmails;
+    private final List<String> mentorTokens;
+    private final AtomicLong signupSequence;
+
+    private LoadScenario(MentalkClient client, List<String> userEmails, List<String> mentorTokens,
+                         long signupSequence) {
+        this.client = client;
+        this.userEmails = userEmails;
+        this.mentorTokens = mentorTokens;
+        this.signupSequence = new AtomicLong(signupSequence);
+    }
+
+    static LoadScenario seed(MentalkClient client, int users, int mentors) {
+        List<String> userEmails = Collections.synchronizedList(new ArrayList<>());
+        List<String> mentorTokens = Collections.synchronizedList(new ArrayList<>());
+        Semaphore permits = new Semaphore(SEED_CONCURRENCY);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users + mentors; i++) {
+                boolean mentor = i >= users;
+                long sequence = i;
+                executor.execute(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        String email = signupSeeded(client, sequence);
+                        if (mentor) {
+                            mentorTokens.add(promoteToMentor(client, email));
+                        } else {
+                            userEmails.add(email);
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        throw new IllegalStateException("Failed to seed member " + sequence, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        if (userEmails.size() != users || mentorTokens.size() != mentors) {
+            throw new IllegalStateException("Seeded %d/%d users and %d/%d mentors".formatted(
+                    userEmails.size(), users, mentorTokens.size(), mentors));
+        }
+
+        return new LoadScenario(client, List.copyOf(userEmails), List.copyOf(mentorTokens),
+                                users + mentors);
+    }
+
+    HttpResponse<Void> execute(Operation operation) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        return switch (operation) {
+            case SIGNUP -> {
+                long sequence = signupSequence.getAndIncrement();
+                yield client.signup(email(sequence), PASSWORD, "user" + sequence,
+                                    phoneNumber(sequence));
+            }
+            case LOGIN -> client.login(pick(userEmails, random), PASSWORD);
+            // 절반은 가입된 이메일, 절반은 없는 이메일로 블룸 필터의 양쪽 경로를 모두 태운다.
+            case EMAIL_CHECK -> client.checkEmail(random.nextBoolean()
+                                                  ? pick(userEmails, random)
+                                                  : "absent" + random.nextLong(1L << 40)
+                                                    + "@loadtest.mentalk.org");
+            case SESSION_CREATE -> client.createSession(
+                    pick(mentorTokens, random), SESSION_TYPES[random.nextInt(SESSION_TYPES.length)],
+                    "부하 테스트 세션 " + random.nextInt(100000),
+                    "커리어 고민과 코드 리뷰를 함께 나누는 세션입니다.", 1 + random.nextInt(20));
+        };
+    }
+
+    private static String signupSeeded(MentalkClient client, long sequence)
+            throws IOException, InterruptedException {
+        String email = email(sequence);
+        expectOk(client.signup(email, PASSWORD, "user" + sequence, phoneNumber(sequence)),
+                 "signup");
+        return email;
+    }
+
+    private static String promoteToMentor(MentalkClient client, String email)
+            throws IOException, InterruptedException {
+        HttpResponse<Void> login = expectOk(client.login(email, PASSWORD), "login");
+        HttpResponse<Void> promoted = expectOk(
+                client.changeRoleToMentor(MentalkClient.token(login)), "mentor role change");
+        return MentalkClient.token(promoted);
+    }
+
+    private static HttpResponse<Void> expectOk(HttpResponse<Void> response, String step) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(step + " failed with status " + response.statusCode());
+        }
+        return response;
+    }
+
+    private static String email(long sequence) {
+        return "user" + sequence + "@loadtest.mentalk.org";
+    }
+
+    private static String phoneNumber(long sequence) {
+        return "010" + String.format("%08d", sequence);
+    }
+
+    private static String pick(List<String> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
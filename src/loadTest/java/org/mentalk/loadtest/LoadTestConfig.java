@@ -0,0 +1,38 @@
+package org.mentalk.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+record LoadTestConfig(double ratePerSecond,
+                      Duration warmup,
+                      Duration duration,
+                      int users,
+                      int mentors,
+                      Operation.Mix mix,
+                      long seed,
+                      Duration requestTimeout,
+                      Path reportPath,
+                      double minThroughputRatio,
+                      double maxErrorRate,
+                      double maxP99Millis) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Double.parseDouble(property("rate", "50")),
+                Duration.ofSeconds(Long.parseLong(property("warmup-seconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(property("duration-seconds", "30"))),
+                Integer.parseInt(property("users", "100")),
+                Integer.parseInt(property("mentors", "10")),
+                Operation.parseMix(property("mix", "")),
+                Long.parseLong(property("seed", "42")),
+                Duration.ofMillis(Long.parseLong(property("request-timeout-ms", "10000"))),
+                Path.of(property("report", "build/reports/loadtest/report.txt")),
+                Double.parseDouble(property("min-throughput-ratio", "0.95")),
+                Double.parseDouble(property("max-error-rate", "0.01")),
+                Double.parseDouble(property("max-p99-ms", "0")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,84 @@
+package org.mentalk.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.mentalk.MentalkApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// ./gradlew loadTest 로 실행한다. 애플리케이션을 H2(MySQL 모드)로 띄우고 목표 도착률로 부하를 건 뒤
+// 리포트를 쓰고, 처리량, 오류율, p99가 기준을 벗어나면 0이 아닌 코드로 끝난다.
+@Slf4j
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        List<String> violations;
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                MentalkApplication.class).profiles("loadtest").run(args);
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            MentalkClient client = new MentalkClient(URI.create("http://localhost:" + port),
+                                                     config.requestTimeout(), clientExecutor);
+
+            LoadScenario scenario = LoadScenario.seed(client, config.users(), config.mentors());
+            log.info("Seeded {} users and {} mentors", config.users(), config.mentors());
+
+            LatencyStats stats = new LatencyStats();
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(
+                    config.ratePerSecond(), new Random(config.seed()));
+
+            if (!config.warmup().isZero()) {
+                generator.run(config.warmup(), scheduled -> execute(config, scenario, stats,
+                                                                     scheduled));
+                stats.reset();
+            }
+
+            LoadReport report = new LoadReport(config, stats, generator.run(
+                    config.duration(), scheduled -> execute(config, scenario, stats, scheduled)));
+            report.write(config.reportPath());
+            report.print(System.out);
+            violations = report.violations();
+        }
+
+        if (!violations.isEmpty()) {
+            log.error("Load test failed: {}", String.join(", ", violations));
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    // 요청 스레드마다 작업을 고르므로 ThreadLocalRandom을 쓴다. 시드는 도착 간격에만 적용된다.
+    private static void execute(LoadTestConfig config, LoadScenario scenario, LatencyStats stats,
+                                long scheduledNanos) {
+        Operation operation = config.mix().pick(ThreadLocalRandom.current());
+        boolean success = false;
+        String outcome;
+        try {
+            HttpResponse<Void> response = scenario.execute(operation);
+            success = response.statusCode() / 100 == 2;
+            outcome = String.valueOf(response.statusCode());
+        } catch (HttpTimeoutException e) {
+            outcome = "timeout";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+        } catch (Exception e) {
+            outcome = e.getClass().getSimpleName();
+        }
+
+        stats.record(operation, System.nanoTime() - scheduledNanos, success, outcome);
+    }
+}
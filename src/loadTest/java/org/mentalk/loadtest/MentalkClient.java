@@ -0,0 +1,101 @@
+package org.mentalk.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+final class MentalkClient {
+
+    private static final String TOKEN_COOKIE = "access_token=";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+    private final Duration requestTimeout;
+
+    MentalkClient(URI baseUri, Duration requestTimeout, Executor executor) {
+        this.httpClient = HttpClient.newBuilder()
+                                    .version(HttpClient.Version.HTTP_1_1)
+                                    .connectTimeout(requestTimeout)
+                                    .executor(executor)
+                                    .build();
+        this.baseUri = baseUri;
+        this.requestTimeout = requestTimeout;
+    }
+
+    HttpResponse<Void> signup(String email, String password, String name, String phoneNumber)
+            throws IOException, InterruptedException {
+        return post("/api/members", Map.of("email", email, "password", password,
+                                           "name", name, "phoneNumber", phoneNumber), null);
+    }
+
+    HttpResponse<Void> login(String email, String password)
+            throws IOException, InterruptedException {
+        return post("/api/auth/login", Map.of("email", email, "password", password), null);
+    }
+
+    HttpResponse<Void> checkEmail(String email) throws IOException, InterruptedException {
+        return post("/api/auth/email/exists", Map.of("email", email), null);
+    }
+
+    HttpResponse<Void> changeRoleToMentor(String token) throws IOException, InterruptedException {
+        return send(request("/api/members/role/mentor", token)
+                            .PUT(HttpRequest.BodyPublishers.noBody())
+                            .build());
+    }
+
+    HttpResponse<Void> createSession(String token, String sessionType, String title,
+                                     String content, int capacity)
+            throws IOException, InterruptedException {
+        return post("/api/sessions", Map.of("sessionType", sessionType, "title", title,
+                                            "content", content, "capacity", capacity), token);
+    }
+
+    static String token(HttpResponse<?> response) {
+        return response.headers()
+                       .allValues("Set-Cookie")
+                       .stream()
+                       .filter(cookie -> cookie.startsWith(TOKEN_COOKIE))
+                       .map(cookie -> cookie.substring(TOKEN_COOKIE.length()).split(";", 2)[0])
+                       .filter(token -> !token.isEmpty())
+                       .findFirst()
+                       .orElseThrow(() -> new IllegalStateException(
+                               "No access token in response " + response.statusCode()));
+    }
+
+    private HttpResponse<Void> post(String path, Map<String, ?> body, String token)
+            throws IOException, InterruptedException {
+        return send(request(path, token)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+                            .build());
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                                                 .timeout(requestTimeout);
+        if (token != null) {
+            builder.header("Cookie", TOKEN_COOKIE + token);
+        }
+        return builder;
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private String json(Map<String, ?> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
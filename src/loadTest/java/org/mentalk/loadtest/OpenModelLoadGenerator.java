@@ -0,0 +1,48 @@
+package org.mentalk.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+import java.util.random.RandomGenerator;
+
+// 열린 모델: 도착은 응답을 기다리지 않고 포아송 과정으로 발생한다. 각 요청은 가상 스레드 하나가 맡는다.
+// 지연은 실제 전송 시각이 아니라 예정된 도착 시각부터 재므로 생성기가 밀려도 coordinated omission이 없다.
+final class OpenModelLoadGenerator {
+
+    private final double ratePerSecond;
+    private final RandomGenerator random;
+
+    OpenModelLoadGenerator(double ratePerSecond, RandomGenerator random) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive: " + ratePerSecond);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.random = random;
+    }
+
+    // 모든 도착이 끝날 때까지 기다리고, 첫 도착부터 마지막 완료까지의 시간을 돌려준다.
+    Duration run(Duration duration, LongConsumer arrival) {
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long intended = start;
+            while (intended < end) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                long scheduled = intended;
+                executor.execute(() -> arrival.accept(scheduled));
+                intended += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+            }
+        }
+
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,85 @@
+package org.mentalk.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+enum Operation {
+    SIGNUP(10),
+    LOGIN(30),
+    EMAIL_CHECK(50),
+    SESSION_CREATE(10);
+
+    private final int defaultWeight;
+
+    Operation(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    // "signup=10,login=30" 형식. 빠진 항목은 기본 가중치를 쓴다.
+    static Mix parseMix(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (Operation operation : values()) {
+            weights.put(operation, operation.defaultWeight);
+        }
+
+        if (spec != null && !spec.isBlank()) {
+            for (String entry : spec.split(",")) {
+                String[] pair = entry.trim().split("=");
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Invalid mix entry: " + entry);
+                }
+                weights.put(valueOf(pair[0].trim().toUpperCase().replace('-', '_')),
+                            Integer.parseInt(pair[1].trim()));
+            }
+        }
+
+        return new Mix(weights);
+    }
+
+    static final class Mix {
+
+        private final Operation[] operations;
+        private final int[] cumulativeWeights;
+
+        private Mix(Map<Operation, Integer> weights) {
+            this.operations = weights.keySet().toArray(Operation[]::new);
+            this.cumulativeWeights = new int[operations.length];
+
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += Math.max(0, weights.get(operations[i]));
+                cumulativeWeights[i] = total;
+            }
+            if (total == 0) {
+                throw new IllegalArgumentException("Operation mix has no positive weight");
+            }
+        }
+
+        Operation pick(RandomGenerator random) {
+            int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (value < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            int previous = 0;
+            for (int i = 0; i < operations.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(operations[i].name().toLowerCase())
+                       .append('=')
+                       .append(cumulativeWeights[i] - previous);
+                previous = cumulativeWeights[i];
+            }
+            return builder.toString();
+        }
+    }
+}
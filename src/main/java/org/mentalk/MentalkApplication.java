@@ -2,8 +2,10 @@ package org.mentalk;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.PropertySource;
 
 @SpringBootApplication
+@PropertySource("classpath:mentalk-defaults.properties")
 public class MentalkApplication {
 
     public static void main(String[] args) {
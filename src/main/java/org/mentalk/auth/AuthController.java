@@ -1,5 +1,6 @@
 package org.mentalk.auth;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.time.Duration;
 import java.util.Map;
@@ -13,12 +14,14 @@ import org.mentalk.auth.request.LocalLoginRequest;
 import org.mentalk.auth.request.PasswordResetRequest;
 import org.mentalk.common.enums.ErrorCode;
 import org.mentalk.common.response.ApiResponse;
+import org.mentalk.common.response.ErrorResponses;
 import org.mentalk.common.security.PrincipalDetails;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -33,7 +36,7 @@ public class AuthController {
     private final AuthService authService;
 
     @GetMapping("/check")
-    public ResponseEntity<ApiResponse> checkAuth() {
+    public ResponseEntity<?> checkAuth() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication != null && !authentication.getPrincipal().equals("anonymousUser")) {
@@ -42,15 +45,15 @@ public class AuthController {
             return ResponseEntity.ok()
                                  .body(ApiResponse.success(Map.of("role", principal.role().name())));
         } else {
-            return ResponseEntity.status(ErrorCode.UNAUTHORIZED.getStatus())
-                                 .body(ApiResponse.failure(ErrorCode.UNAUTHORIZED.getCode(),
-                                                           ErrorCode.UNAUTHORIZED.getMessage()));
+            return ErrorResponses.toResponseEntity(ErrorCode.UNAUTHORIZED);
         }
     }
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse> localLogin(@RequestBody @Valid LocalLoginRequest request) {
-        LocalLoginDto loginDto = LocalLoginDto.of(request);
+    public ResponseEntity<ApiResponse> localLogin(@RequestBody @Valid LocalLoginRequest request,
+                                                  HttpServletRequest servletRequest) {
+        // 신뢰하는 프록시 뒤에서는 server.forward-headers-strategy로 X-Forwarded-For의 클라이언트 주소가 된다.
+        LocalLoginDto loginDto = LocalLoginDto.of(request, servletRequest.getRemoteAddr());
 
         JwtDto jwtDto = authService.localLogin(loginDto);
 
@@ -66,7 +69,10 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse> logout() {
+    public ResponseEntity<ApiResponse> logout(
+            @CookieValue(name = "access_token", required = false) String token) {
+        authService.logout(token);
+
         ResponseCookie deleteCookie = ResponseCookie.from("access_token", "")
                                                     .httpOnly(true)
                                                     .path("/")
@@ -5,12 +5,14 @@ import org.mentalk.auth.domain.LocalAccount;
 import org.mentalk.auth.dto.EmailDto;
 import org.mentalk.auth.dto.JwtDto;
 import org.mentalk.auth.dto.LocalLoginDto;
+import org.mentalk.auth.dto.LoginCredentialDto;
+import org.mentalk.common.datasource.ReadYourWrites;
 import org.mentalk.common.enums.ErrorCode;
 import org.mentalk.common.exception.ApiException;
 import org.mentalk.common.security.JwtUtil;
+import org.mentalk.common.security.PasswordHasher;
 import org.mentalk.member.MemberRepository;
 import org.mentalk.member.domain.Member;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,51 +22,80 @@ public class AuthService {
 
     private final LocalAccountRepository localAccountRepository;
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final PasswordHashUpgrader passwordHashUpgrader;
     private final JwtUtil jwtUtil;
+    private final LoginThrottle loginThrottle;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final TokenRevocationService tokenRevocationService;
+    private final ReadYourWrites readYourWrites;
 
-    @Transactional(readOnly = true)
+    // 가입 전 참고용 확인이라 필터의 "없음"을 그대로 돌려준다. 실제 중복은 가입 시 유니크 제약이 막는다.
+    // 필터에서 끝나는 요청이 커넥션을 잡지 않도록 트랜잭션은 리포지토리 조회에만 건다.
     public boolean isEmailExists(String email) {
-        return localAccountRepository.existsByEmail(email);
+        if (!emailExistenceFilter.mightExist(email)) {
+            return false;
+        }
+
+        return readYourWrites.readOwnWrites(ReadYourWrites.emailKey(email),
+                                            () -> localAccountRepository.existsByEmail(email));
     }
 
-    @Transactional(readOnly = true)
     public JwtDto localLogin(LocalLoginDto loginDto) {
-        LocalAccount localAccount = localAccountRepository.findByEmail(loginDto.email())
-                                                          .orElseThrow(() -> new ApiException(
-                                                                  ErrorCode.EMAIL_NOT_FOUND));
+        loginThrottle.acquire(loginDto.email(), loginDto.clientIp());
+
+        // 가입 직후 로그인은 레플리카에 아직 계정이 없을 수 있어 primary에서 읽는다.
+        LoginCredentialDto credential = readYourWrites.readOwnWrites(
+                ReadYourWrites.emailKey(loginDto.email()),
+                () -> localAccountRepository.findLoginCredentialByEmail(loginDto.email())
+                                            .orElseThrow(() -> new ApiException(
+                                                    ErrorCode.EMAIL_NOT_FOUND)));
 
-        if (!passwordEncoder.matches(loginDto.password(), localAccount.getHashedPassword())) {
+        if (!passwordHasher.matches(loginDto.password(), credential.hashedPassword())) {
             throw new ApiException(ErrorCode.INVALID_PASSWORD);
         }
 
-        String token = jwtUtil.createToken(localAccount.getMember().getId(),
-                                           localAccount.getMember().getRole());
+        passwordHashUpgrader.upgrade(credential, loginDto.password());
+
+        String token = jwtUtil.createToken(credential.memberId(), credential.role());
 
-        return JwtDto.of(token, localAccount.getMember().getRole());
+        return JwtDto.of(token, credential.role());
+    }
+
+    public void logout(String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+
+        tokenRevocationService.revokeToken(token);
     }
 
     @Transactional(readOnly = true)
     public EmailDto findEmail(String phoneNumber) {
-        Member member = memberRepository.findByPhoneNumber(phoneNumber)
-                                        .orElseThrow(
-                                                () -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
+        return readYourWrites.readOwnWrites(ReadYourWrites.phoneNumberKey(phoneNumber), () -> {
+            Member member = memberRepository.findByPhoneNumber(phoneNumber)
+                                            .orElseThrow(
+                                                    () -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
 
-        LocalAccount localAccount = localAccountRepository.findByMemberId(member.getId())
-                                                          .orElseThrow(() -> new ApiException(
-                                                                  ErrorCode.ACCOUNT_NOT_FOUND));
+            LocalAccount localAccount = localAccountRepository.findByMemberId(member.getId())
+                                                              .orElseThrow(() -> new ApiException(
+                                                                      ErrorCode.ACCOUNT_NOT_FOUND));
 
-        return EmailDto.of(localAccount.getEmail());
+            return EmailDto.of(localAccount.getEmail());
+        });
     }
 
-    @Transactional
+    // 엔티티를 읽어 병합하지 않고 id로 해시만 바꾼다. 가입 직후라 레플리카에 계정이 없을 수 있어 primary에서 찾는다.
     public void resetPassword(String email, String password) {
-        LocalAccount localAccount = localAccountRepository.findByEmail(email).orElseThrow(
-                () -> new ApiException(ErrorCode.ACCOUNT_NOT_FOUND));
-
-        String hashedPassword = passwordEncoder.encode(password);
-        localAccount.changePassword(hashedPassword);
+        String emailKey = ReadYourWrites.emailKey(email);
+        Long localAccountId = readYourWrites.readOwnWrites(
+                emailKey,
+                () -> localAccountRepository.findIdByEmail(email)
+                                            .orElseThrow(() -> new ApiException(
+                                                    ErrorCode.ACCOUNT_NOT_FOUND)));
 
-        localAccountRepository.save(localAccount);
+        String hashedPassword = passwordHasher.encode(password);
+        localAccountRepository.changeHashedPassword(localAccountId, hashedPassword);
+        readYourWrites.pin(emailKey);
     }
 }
@@ -0,0 +1,46 @@
+package org.mentalk.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import org.mentalk.common.bloom.ExistenceFilter;
+import org.mentalk.common.bloom.ExistenceKey;
+import org.mentalk.common.sync.CreatedTimePollers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmailExistenceFilter extends ExistenceFilter {
+
+    private final LocalAccountRepository localAccountRepository;
+
+    public EmailExistenceFilter(LocalAccountRepository localAccountRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${bloom.email.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${bloom.batch-size:1000}") int batchSize,
+                                CreatedTimePollers createdTimePollers) {
+        super("email", meterRegistry, expectedInsertions, falsePositiveRate, batchSize,
+              createdTimePollers);
+        this.localAccountRepository = localAccountRepository;
+    }
+
+    @Override
+    protected List<ExistenceKey> findKeysAfter(long afterId, Pageable pageable) {
+        return localAccountRepository.findEmailKeysAfter(afterId, pageable);
+    }
+
+    @Override
+    protected List<ExistenceKey> findKeysCreatedSince(LocalDateTime since, long afterId,
+                                                      Pageable pageable) {
+        return localAccountRepository.findEmailKeysCreatedSince(since, afterId, pageable);
+    }
+
+    // MySQL 기본 collation은 대소문자를 구분하지 않으므로 같은 기준으로 맞춘다.
+    @Override
+    protected String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,18 +1,73 @@
 package org.mentalk.auth;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.mentalk.auth.domain.LocalAccount;
+import org.mentalk.auth.dto.LoginCredentialDto;
+import org.mentalk.common.bloom.ExistenceKey;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface LocalAccountRepository extends JpaRepository<LocalAccount, Long> {
 
     boolean existsByMemberId(Long memberId);
 
+    // 트랜잭션 없이 호출되므로 읽기 전용으로 표시해 레플리카로 보낼 수 있게 한다.
+    @Transactional(readOnly = true)
     boolean existsByEmail(String email);
 
-    Optional<LocalAccount> findByEmail(String email);
+    @Transactional(readOnly = true)
+    @Query("select a.id from LocalAccount a where a.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
 
     Optional<LocalAccount> findByMemberId(Long memberId);
+
+    @Query("""
+            select new org.mentalk.common.bloom.ExistenceKey(a.id, a.email)
+            from LocalAccount a
+            where a.id > :afterId
+            order by a.id
+            """)
+    List<ExistenceKey> findEmailKeysAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("""
+            select new org.mentalk.common.bloom.ExistenceKey(a.id, a.email)
+            from LocalAccount a
+            where a.createdTime >= :since
+              and a.id > :afterId
+            order by a.id
+            """)
+    List<ExistenceKey> findEmailKeysCreatedSince(@Param("since") LocalDateTime since,
+                                                 @Param("afterId") long afterId,
+                                                 Pageable pageable);
+
+    // 트랜잭션 없이 호출되므로 읽기 전용으로 표시해 레플리카로 보낼 수 있게 한다.
+    @Transactional(readOnly = true)
+    @Query("""
+            select new org.mentalk.auth.dto.LoginCredentialDto(a.hashedPassword, m.id, m.role)
+            from LocalAccount a
+            join a.member m
+            where a.email = :email
+            """)
+    Optional<LoginCredentialDto> findLoginCredentialByEmail(@Param("email") String email);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update LocalAccount a set a.hashedPassword = :newHashedPassword "
+            + "where a.member.id = :memberId and a.hashedPassword = :oldHashedPassword")
+    int updateHashedPassword(@Param("memberId") Long memberId,
+                             @Param("oldHashedPassword") String oldHashedPassword,
+                             @Param("newHashedPassword") String newHashedPassword);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update LocalAccount a set a.hashedPassword = :hashedPassword where a.id = :id")
+    int changeHashedPassword(@Param("id") Long id, @Param("hashedPassword") String hashedPassword);
 }
@@ -0,0 +1,109 @@
+package org.mentalk.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.exception.ApiException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoginThrottle {
+
+    private final Limit emailLimit;
+    private final Limit ipLimit;
+    private final Ticker ticker;
+    private final Cache<String, AtomicLong> buckets;
+    private final Counter emailThrottled;
+    private final Counter ipThrottled;
+
+    @Autowired
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${auth.throttle.email.capacity:5}") int emailCapacity,
+                         @Value("${auth.throttle.email.period-seconds:60}") long emailPeriodSeconds,
+                         @Value("${auth.throttle.ip.capacity:30}") int ipCapacity,
+                         @Value("${auth.throttle.ip.period-seconds:60}") long ipPeriodSeconds,
+                         @Value("${auth.throttle.maximum-size:100000}") long maximumSize) {
+        this(meterRegistry, Limit.of(emailCapacity, Duration.ofSeconds(emailPeriodSeconds)),
+             Limit.of(ipCapacity, Duration.ofSeconds(ipPeriodSeconds)), maximumSize,
+             Ticker.systemTicker());
+    }
+
+    LoginThrottle(MeterRegistry meterRegistry, Limit emailLimit, Limit ipLimit, long maximumSize,
+                  Ticker ticker) {
+        this.emailLimit = emailLimit;
+        this.ipLimit = ipLimit;
+        this.ticker = ticker;
+        // 한 주기 동안 접근이 없으면 버킷이 가득 찬 상태와 같으므로 그대로 만료시킨다.
+        this.buckets = Caffeine.newBuilder()
+                               .maximumSize(maximumSize)
+                               .expireAfterAccess(Duration.ofNanos(
+                                       Math.max(emailLimit.periodNanos(), ipLimit.periodNanos())))
+                               .ticker(ticker)
+                               .build();
+        this.emailThrottled = Counter.builder("auth.login.throttled")
+                                     .tag("key", "email")
+                                     .register(meterRegistry);
+        this.ipThrottled = Counter.builder("auth.login.throttled")
+                                  .tag("key", "ip")
+                                  .register(meterRegistry);
+    }
+
+    // 두 버킷이 모두 받아들일 때만 차감한다. 이메일 버킷을 먼저 보아 한 계정을 두드리는 요청이 같은 IP의 몫을 쓰지 않게 하고,
+    // IP가 거절하면 이메일 토큰을 되돌려 한도를 넘은 IP가 남의 계정을 잠그지 못하게 한다.
+    public void acquire(String email, String clientIp) {
+        String emailKey = "email:" + email.toLowerCase(Locale.ROOT);
+        if (!tryConsume(emailKey, emailLimit)) {
+            emailThrottled.increment();
+            throw new ApiException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        if (clientIp != null && !tryConsume("ip:" + clientIp, ipLimit)) {
+            refund(emailKey, emailLimit);
+            ipThrottled.increment();
+            throw new ApiException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    // GCRA: 버킷마다 다음 토큰이 생기는 이론상 시각 하나만 CAS로 갱신한다.
+    private boolean tryConsume(String key, Limit limit) {
+        long now = ticker.read();
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(now));
+
+        while (true) {
+            long current = theoreticalArrival.get();
+            long start = Math.max(current, now);
+            if (start - now > limit.toleranceNanos()) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, start + limit.intervalNanos())) {
+                return true;
+            }
+        }
+    }
+
+    private void refund(String key, Limit limit) {
+        AtomicLong theoreticalArrival = buckets.getIfPresent(key);
+        if (theoreticalArrival != null) {
+            theoreticalArrival.addAndGet(-limit.intervalNanos());
+        }
+    }
+
+    record Limit(long intervalNanos, long toleranceNanos) {
+
+        static Limit of(int capacity, Duration period) {
+            long intervalNanos = period.toNanos() / capacity;
+            return new Limit(intervalNanos, intervalNanos * (capacity - 1));
+        }
+
+        long periodNanos() {
+            return intervalNanos + toleranceNanos;
+        }
+    }
+}
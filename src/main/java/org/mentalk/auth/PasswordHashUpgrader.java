@@ -0,0 +1,66 @@
+package org.mentalk.auth;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.mentalk.auth.dto.LoginCredentialDto;
+import org.mentalk.common.exception.ApiException;
+import org.mentalk.common.security.PasswordHasher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+// 로그인에 성공한 오래된 해시를 새 해시로 바꾼다. 실패하거나 밀려도 다음 로그인에서 다시 시도하면 된다.
+// 해시 스레드가 커넥션을 기다리며 묶이지 않도록 DB 쓰기는 별도 스레드에서 한다.
+@Slf4j
+@Component
+public class PasswordHashUpgrader {
+
+    private final PasswordHasher passwordHasher;
+    private final LocalAccountRepository localAccountRepository;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashUpgrader(PasswordHasher passwordHasher,
+                                LocalAccountRepository localAccountRepository,
+                                @Value("${password.upgrade.pool-size:1}") int poolSize,
+                                @Value("${password.upgrade.queue-capacity:256}") int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+                "password-upgrade-");
+        threadFactory.setDaemon(true);
+
+        this.passwordHasher = passwordHasher;
+        this.localAccountRepository = localAccountRepository;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(queueCapacity),
+                                               threadFactory,
+                                               new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public void upgrade(LoginCredentialDto credential, String password) {
+        String hashedPassword = credential.hashedPassword();
+        if (!passwordHasher.needsUpgrade(hashedPassword)) {
+            return;
+        }
+
+        try {
+            passwordHasher.encodeAsync(password)
+                          .thenAcceptAsync(upgraded -> localAccountRepository.updateHashedPassword(
+                                  credential.memberId(), hashedPassword, upgraded), executor)
+                          .exceptionally(e -> {
+                              log.warn("Password hash upgrade failed for member {}",
+                                       credential.memberId(), e);
+                              return null;
+                          });
+        } catch (ApiException e) {
+            log.debug("Password hash upgrade skipped for member {}: {}", credential.memberId(),
+                      e.getErrorCode().getCode());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
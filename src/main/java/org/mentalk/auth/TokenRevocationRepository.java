@@ -0,0 +1,46 @@
+package org.mentalk.auth;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.mentalk.auth.domain.TokenRevocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    @Query("""
+            select t
+            from TokenRevocation t
+            where t.expiresAt > :now
+              and t.id > :afterId
+            order by t.id
+            """)
+    List<TokenRevocation> findActiveAfter(@Param("afterId") long afterId,
+                                          @Param("now") Instant now,
+                                          Pageable pageable);
+
+    @Query("""
+            select t
+            from TokenRevocation t
+            where t.createdTime >= :since
+              and t.expiresAt > :now
+              and t.id > :afterId
+            order by t.id
+            """)
+    List<TokenRevocation> findActiveCreatedSince(@Param("since") LocalDateTime since,
+                                                 @Param("afterId") long afterId,
+                                                 @Param("now") Instant now,
+                                                 Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from TokenRevocation t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
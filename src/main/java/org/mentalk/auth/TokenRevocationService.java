@@ -0,0 +1,128 @@
+package org.mentalk.auth;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.mentalk.auth.domain.TokenRevocation;
+import org.mentalk.common.security.JwtUtil;
+import org.mentalk.common.security.TokenRevocationList;
+import org.mentalk.common.security.VerifiedToken;
+import org.mentalk.common.security.VerifiedTokenCache;
+import org.mentalk.common.sync.CreatedTimePoller;
+import org.mentalk.common.sync.CreatedTimePollers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtUtil jwtUtil;
+    private final CreatedTimePoller<TokenRevocation> poller;
+
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository,
+                                  TokenRevocationList tokenRevocationList,
+                                  VerifiedTokenCache verifiedTokenCache,
+                                  JwtUtil jwtUtil,
+                                  CreatedTimePollers createdTimePollers,
+                                  @Value("${jwt.revocation.batch-size:1000}") int batchSize) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.tokenRevocationList = tokenRevocationList;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.jwtUtil = jwtUtil;
+        this.poller = createdTimePollers.create(
+                batchSize,
+                (since, afterId, pageable) -> tokenRevocationRepository.findActiveCreatedSince(
+                        since, afterId, Instant.now(), pageable),
+                TokenRevocation::getId, this::apply);
+    }
+
+    @Transactional
+    public void revokeToken(String token) {
+        // jti가 없는 이전 형식의 토큰은 개별 폐기할 수 없다.
+        VerifiedToken verifiedToken = verifiedTokenCache.getVerifiedToken(token)
+                                                        .filter(verified -> verified.tokenId() != null)
+                                                        .orElse(null);
+        if (verifiedToken == null) {
+            return;
+        }
+
+        tokenRevocationRepository.save(TokenRevocation.builder()
+                                                      .tokenId(verifiedToken.tokenId())
+                                                      .memberId(verifiedToken.principal().id())
+                                                      .expiresAt(verifiedToken.expiration())
+                                                      .build());
+        afterCommit(() -> tokenRevocationList.revoke(verifiedToken.tokenId(),
+                                                     verifiedToken.expiration()));
+    }
+
+    @Transactional
+    public void revokeAllBefore(Long memberId, Instant issuedBefore) {
+        // JWT iat는 초 단위이므로 같은 초에 새로 발급하는 토큰이 폐기되지 않도록 내림한다.
+        Instant cutoff = issuedBefore.truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = cutoff.plus(jwtUtil.getTokenTtl());
+
+        tokenRevocationRepository.save(TokenRevocation.builder()
+                                                      .memberId(memberId)
+                                                      .issuedBefore(cutoff)
+                                                      .expiresAt(expiresAt)
+                                                      .build());
+        afterCommit(() -> tokenRevocationList.revokeAllBefore(memberId, cutoff, expiresAt));
+    }
+
+    // 첫 실행에서 만료되지 않은 폐기 항목을 모두 읽고, 이후에는 다른 인스턴스가 기록한 항목만 가져온다.
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval-ms:1000}")
+    public void poll() {
+        boolean initial = poller.getSyncedTime() == null;
+        int fetched = initial
+                      ? poller.load((afterId, pageable) -> tokenRevocationRepository.findActiveAfter(
+                              afterId, Instant.now(), pageable))
+                      : poller.poll();
+
+        int pruned = tokenRevocationList.prune();
+        if (initial || pruned > 0) {
+            log.debug("Token revocation list synced: {} fetched, {} pruned, {} active",
+                      fetched, pruned, tokenRevocationList.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        int deleted = tokenRevocationRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired token revocations", deleted);
+        }
+    }
+
+    // 호출한 트랜잭션이 롤백되면 DB에는 폐기가 없으므로 이 인스턴스만 토큰을 거부하지 않도록 커밋 후에 반영한다.
+    private void afterCommit(Runnable revoke) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revoke.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revoke.run();
+            }
+        });
+    }
+
+    private void apply(TokenRevocation revocation) {
+        if (revocation.getTokenId() != null) {
+            tokenRevocationList.revoke(revocation.getTokenId(), revocation.getExpiresAt());
+        } else {
+            tokenRevocationList.revokeAllBefore(revocation.getMemberId(),
+                                                revocation.getIssuedBefore(),
+                                                revocation.getExpiresAt());
+        }
+    }
+}
@@ -5,8 +5,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,20 +21,28 @@ import org.mentalk.member.domain.Member;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_local_account_member", columnNames = "member_id"),
+        @UniqueConstraint(name = "uk_local_account_email", columnNames = "email")
+}, indexes = {
+        @Index(name = "idx_local_account_created_time", columnList = "createdTime")
+})
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class LocalAccount extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "local_account_seq_generator")
+    @SequenceGenerator(name = "local_account_seq_generator", sequenceName = "local_account_seq",
+                       allocationSize = 50)
     private Long id;
 
     @OneToOne
-    @JoinColumn(unique = true, nullable = false)
+    @JoinColumn(nullable = false)
     private Member member;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -0,0 +1,46 @@
+package org.mentalk.auth.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.mentalk.common.domain.BaseTimeEntity;
+
+@Entity
+@Getter
+@Table(indexes = {
+        @Index(name = "idx_token_revocation_created_time", columnList = "createdTime"),
+        @Index(name = "idx_token_revocation_expires_at", columnList = "expiresAt")
+})
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class TokenRevocation extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "token_revocation_seq_generator")
+    @SequenceGenerator(name = "token_revocation_seq_generator",
+                       sequenceName = "token_revocation_seq", allocationSize = 50)
+    private Long id;
+
+    // null이면 issuedBefore 이전에 발급된 회원의 모든 토큰을 폐기한다.
+    private String tokenId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    private Instant issuedBefore;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
@@ -2,9 +2,9 @@ package org.mentalk.auth.dto;
 
 import org.mentalk.auth.request.LocalLoginRequest;
 
-public record LocalLoginDto(String email, String password) {
+public record LocalLoginDto(String email, String password, String clientIp) {
 
-    public static LocalLoginDto of(LocalLoginRequest request) {
-        return new LocalLoginDto(request.email(), request.password());
+    public static LocalLoginDto of(LocalLoginRequest request, String clientIp) {
+        return new LocalLoginDto(request.email(), request.password(), clientIp);
     }
 }
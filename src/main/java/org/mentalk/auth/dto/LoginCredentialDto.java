@@ -0,0 +1,8 @@
+package org.mentalk.auth.dto;
+
+import org.mentalk.common.enums.Role;
+
+public record LoginCredentialDto(String hashedPassword,
+                                 Long memberId,
+                                 Role role) {
+}
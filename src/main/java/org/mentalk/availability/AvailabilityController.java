@@ -0,0 +1,67 @@
+package org.mentalk.availability;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.mentalk.availability.dto.AvailabilityWindowDto;
+import org.mentalk.availability.dto.AvailabilityWindowIdDto;
+import org.mentalk.availability.dto.FreeSlotDto;
+import org.mentalk.availability.dto.FreeSlotQueryDto;
+import org.mentalk.availability.dto.SlotBookingDto;
+import org.mentalk.availability.dto.SlotBookingIdDto;
+import org.mentalk.availability.request.AvailabilityWindowCreateRequest;
+import org.mentalk.availability.request.FreeSlotSearchRequest;
+import org.mentalk.availability.request.SlotBookingRequest;
+import org.mentalk.common.response.ApiResponse;
+import org.mentalk.common.security.PrincipalDetails;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/availability")
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse> publishWindow(
+            @RequestBody @Valid AvailabilityWindowCreateRequest request,
+            @AuthenticationPrincipal PrincipalDetails principal) {
+
+        AvailabilityWindowDto windowDto = AvailabilityWindowDto.of(request, principal.id());
+
+        AvailabilityWindowIdDto windowIdDto = availabilityService.publishWindow(windowDto);
+
+        return ResponseEntity.ok().body(ApiResponse.success(windowIdDto));
+    }
+
+    @GetMapping("/slots")
+    public ResponseEntity<ApiResponse> findFreeSlots(@ModelAttribute @Valid FreeSlotSearchRequest request) {
+        FreeSlotQueryDto queryDto = FreeSlotQueryDto.of(request);
+
+        List<FreeSlotDto> slots = availabilityService.findFreeSlots(queryDto);
+
+        return ResponseEntity.ok().body(ApiResponse.success(slots));
+    }
+
+    @PostMapping("/{windowId}/bookings")
+    public ResponseEntity<ApiResponse> bookSlot(
+            @PathVariable Long windowId,
+            @RequestBody @Valid SlotBookingRequest request,
+            @AuthenticationPrincipal PrincipalDetails principal) {
+
+        SlotBookingDto bookingDto = SlotBookingDto.of(request, windowId, principal.id());
+
+        SlotBookingIdDto bookingIdDto = availabilityService.bookSlot(bookingDto);
+
+        return ResponseEntity.ok().body(ApiResponse.success(bookingIdDto));
+    }
+}
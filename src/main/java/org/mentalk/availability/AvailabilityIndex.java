@@ -0,0 +1,152 @@
+package org.mentalk.availability;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.mentalk.availability.dto.AvailabilityWindowDetailDto;
+import org.mentalk.availability.dto.FreeSlotDto;
+import org.mentalk.availability.dto.FreeSlotQueryDto;
+import org.mentalk.availability.dto.SlotBookingDetailDto;
+import org.springframework.stereotype.Component;
+
+// 공개 구간은 전체 멘토를 한 트리에, 예약은 멘토별 트리에 둔다.
+// 빈 시간 조회는 범위와 겹치는 공개 구간만 찾아 그 멘토의 예약을 빼므로 멘토 수가 아니라 결과 크기에 비례한다.
+@Component
+public class AvailabilityIndex {
+
+    private static final Comparator<FreeSlotDto> SLOT_ORDER =
+            Comparator.comparing(FreeSlotDto::startTime)
+                      .thenComparing(FreeSlotDto::mentorId)
+                      .thenComparing(FreeSlotDto::windowId);
+
+    private final IntervalTree<AvailabilityWindowDetailDto> windows = new IntervalTree<>();
+    private final Map<Long, IntervalTree<SlotBookingDetailDto>> bookingsByMentor = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void addWindow(AvailabilityWindowDetailDto window) {
+        lock.writeLock().lock();
+        try {
+            windows.insert(epochSecond(window.startTime()), epochSecond(window.endTime()),
+                           window.id(), window);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addBooking(SlotBookingDetailDto booking) {
+        lock.writeLock().lock();
+        try {
+            bookingsByMentor.computeIfAbsent(booking.mentorId(), key -> new IntervalTree<>())
+                            .insert(epochSecond(booking.startTime()),
+                                    epochSecond(booking.endTime()), booking.id(), booking);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<FreeSlotDto> findFreeSlots(FreeSlotQueryDto queryDto) {
+        long from = epochSecond(queryDto.from());
+        long to = epochSecond(queryDto.to());
+        long minSeconds = queryDto.minDuration().toSeconds();
+
+        List<FreeSlotDto> slots = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            windows.forEachOverlapping(from, to, window -> {
+                if (queryDto.sessionType() != null
+                    && queryDto.sessionType() != window.sessionType()) {
+                    return;
+                }
+
+                long start = Math.max(epochSecond(window.startTime()), from);
+                long end = Math.min(epochSecond(window.endTime()), to);
+                addFreeSlots(window, start, end, minSeconds, slots);
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        slots.sort(SLOT_ORDER);
+        return slots.size() > queryDto.size() ? List.copyOf(slots.subList(0, queryDto.size()))
+                                              : slots;
+    }
+
+    public int removeEndedBefore(LocalDateTime time) {
+        long cutoff = epochSecond(time);
+
+        lock.writeLock().lock();
+        try {
+            int removed = windows.removeEndedBefore(cutoff);
+            Iterator<IntervalTree<SlotBookingDetailDto>> iterator = bookingsByMentor.values()
+                                                                                  .iterator();
+            while (iterator.hasNext()) {
+                IntervalTree<SlotBookingDetailDto> bookings = iterator.next();
+                removed += bookings.removeEndedBefore(cutoff);
+                if (bookings.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int windowCount() {
+        lock.readLock().lock();
+        try {
+            return windows.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            windows.clear();
+            bookingsByMentor.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 읽기 잠금 안에서 호출한다. 예약은 시작 시각 순으로 오므로 한 번 훑으며 빈 틈을 모은다.
+    private void addFreeSlots(AvailabilityWindowDetailDto window, long start, long end,
+                              long minSeconds, List<FreeSlotDto> slots) {
+        long[] cursor = {start};
+
+        IntervalTree<SlotBookingDetailDto> bookings = bookingsByMentor.get(window.mentorId());
+        if (bookings != null) {
+            bookings.forEachOverlapping(start, end, booking -> {
+                long bookingStart = epochSecond(booking.startTime());
+                addSlot(window, cursor[0], bookingStart, minSeconds, slots);
+                cursor[0] = Math.max(cursor[0], epochSecond(booking.endTime()));
+            });
+        }
+        addSlot(window, cursor[0], end, minSeconds, slots);
+    }
+
+    private void addSlot(AvailabilityWindowDetailDto window, long start, long end,
+                         long minSeconds, List<FreeSlotDto> slots) {
+        if (end > start && end - start >= minSeconds) {
+            slots.add(FreeSlotDto.of(window, toLocalDateTime(start), toLocalDateTime(end)));
+        }
+    }
+
+    private static long epochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
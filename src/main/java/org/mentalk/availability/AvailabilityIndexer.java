@@ -0,0 +1,93 @@
+package org.mentalk.availability;
+
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.mentalk.availability.dto.AvailabilityWindowDetailDto;
+import org.mentalk.availability.dto.AvailabilityWindowPublishedEvent;
+import org.mentalk.availability.dto.SlotBookedEvent;
+import org.mentalk.availability.dto.SlotBookingDetailDto;
+import org.mentalk.common.sync.CreatedTimePoller;
+import org.mentalk.common.sync.CreatedTimePollers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// DB가 원본이다. 기동 시 끝나지 않은 공개 구간과 예약을 읽어 오고, 이후에는 커밋된 쓰기를 반영한다.
+// 이 인스턴스의 쓰기는 커밋 직후 이벤트로, 다른 인스턴스의 쓰기는 생성 시각 기준 주기 동기화로 들어온다.
+// 같은 id를 다시 넣으면 교체되므로 두 경로가 겹쳐도 된다.
+@Slf4j
+@Component
+public class AvailabilityIndexer {
+
+    private final AvailabilityIndex availabilityIndex;
+    private final AvailabilityWindowRepository availabilityWindowRepository;
+    private final SlotBookingRepository slotBookingRepository;
+    private final CreatedTimePoller<AvailabilityWindowDetailDto> windowPoller;
+    private final CreatedTimePoller<SlotBookingDetailDto> bookingPoller;
+
+    public AvailabilityIndexer(AvailabilityIndex availabilityIndex,
+                               AvailabilityWindowRepository availabilityWindowRepository,
+                               SlotBookingRepository slotBookingRepository,
+                               CreatedTimePollers createdTimePollers,
+                               @Value("${availability.index.batch-size:500}") int batchSize) {
+        this.availabilityIndex = availabilityIndex;
+        this.availabilityWindowRepository = availabilityWindowRepository;
+        this.slotBookingRepository = slotBookingRepository;
+        this.windowPoller = createdTimePollers.create(
+                batchSize,
+                (since, afterId, pageable) -> availabilityWindowRepository.findDetailsCreatedSince(
+                        since, afterId, LocalDateTime.now(), pageable),
+                AvailabilityWindowDetailDto::id, availabilityIndex::addWindow);
+        this.bookingPoller = createdTimePollers.create(
+                batchSize,
+                (since, afterId, pageable) -> slotBookingRepository.findDetailsCreatedSince(
+                        since, afterId, LocalDateTime.now(), pageable),
+                SlotBookingDetailDto::id, availabilityIndex::addBooking);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int windows = windowPoller.load(
+                (afterId, pageable) -> availabilityWindowRepository.findDetailsAfter(afterId, now,
+                                                                                     pageable));
+        int bookings = bookingPoller.load(
+                (afterId, pageable) -> slotBookingRepository.findDetailsAfter(afterId, now,
+                                                                              pageable));
+        log.info("Availability index ready: {} windows, {} bookings", windows, bookings);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWindowPublished(AvailabilityWindowPublishedEvent event) {
+        availabilityIndex.addWindow(event.window());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSlotBooked(SlotBookedEvent event) {
+        availabilityIndex.addBooking(event.booking());
+    }
+
+    @Scheduled(fixedDelayString = "${availability.index.sync-interval-ms:5000}")
+    public void sync() {
+        int windows = windowPoller.poll();
+        int bookings = bookingPoller.poll();
+        if (windows > 0 || bookings > 0) {
+            log.debug("Availability index synced: {} windows, {} bookings", windows, bookings);
+        }
+    }
+
+    // 끝난 구간은 더 이상 조회되지 않으므로 주기적으로 버려 인덱스가 계속 커지지 않게 한다.
+    @Scheduled(fixedDelayString = "${availability.index.prune-interval-ms:3600000}",
+               initialDelayString = "${availability.index.prune-interval-ms:3600000}")
+    public void prune() {
+        int removed = availabilityIndex.removeEndedBefore(LocalDateTime.now());
+        if (removed > 0) {
+            log.debug("Pruned {} ended intervals from the availability index", removed);
+        }
+    }
+}
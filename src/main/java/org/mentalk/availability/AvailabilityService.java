@@ -0,0 +1,106 @@
+package org.mentalk.availability;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.mentalk.availability.domain.AvailabilityWindow;
+import org.mentalk.availability.domain.SlotBooking;
+import org.mentalk.availability.dto.AvailabilityWindowDetailDto;
+import org.mentalk.availability.dto.AvailabilityWindowDto;
+import org.mentalk.availability.dto.AvailabilityWindowIdDto;
+import org.mentalk.availability.dto.AvailabilityWindowPublishedEvent;
+import org.mentalk.availability.dto.FreeSlotDto;
+import org.mentalk.availability.dto.FreeSlotQueryDto;
+import org.mentalk.availability.dto.SlotBookedEvent;
+import org.mentalk.availability.dto.SlotBookingDetailDto;
+import org.mentalk.availability.dto.SlotBookingDto;
+import org.mentalk.availability.dto.SlotBookingIdDto;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.exception.ApiException;
+import org.mentalk.member.MemberRepository;
+import org.mentalk.member.domain.Member;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class AvailabilityService {
+
+    private static final Duration MAX_WINDOW_LENGTH = Duration.ofHours(24);
+    private static final Duration MAX_SEARCH_RANGE = Duration.ofDays(31);
+
+    private final MemberRepository memberRepository;
+    private final AvailabilityWindowRepository availabilityWindowRepository;
+    private final SlotBookingRepository slotBookingRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public AvailabilityWindowIdDto publishWindow(AvailabilityWindowDto windowDto) {
+        validateRange(windowDto.startTime(), windowDto.endTime(), MAX_WINDOW_LENGTH);
+
+        // 멘토 행을 잠가 같은 멘토의 공개와 예약을 직렬화한다. 겹침 검사와 저장 사이에 다른 쓰기가 끼어들 수 없다.
+        Member mentor = memberRepository.findByIdForUpdate(windowDto.mentorId()).orElseThrow(
+                () -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
+
+        if (availabilityWindowRepository.existsOverlapping(mentor.getId(), windowDto.startTime(),
+                                                           windowDto.endTime())) {
+            throw new ApiException(ErrorCode.AVAILABILITY_OVERLAP);
+        }
+
+        AvailabilityWindow window = availabilityWindowRepository.save(windowDto.toEntity(mentor));
+        eventPublisher.publishEvent(
+                AvailabilityWindowPublishedEvent.of(AvailabilityWindowDetailDto.of(window)));
+
+        return AvailabilityWindowIdDto.of(window.getId());
+    }
+
+    @Transactional
+    public SlotBookingIdDto bookSlot(SlotBookingDto bookingDto) {
+        validateRange(bookingDto.startTime(), bookingDto.endTime(), MAX_WINDOW_LENGTH);
+
+        AvailabilityWindowDetailDto window = availabilityWindowRepository.findDetailById(
+                bookingDto.windowId()).orElseThrow(
+                () -> new ApiException(ErrorCode.AVAILABILITY_WINDOW_NOT_FOUND));
+
+        if (bookingDto.startTime().isBefore(window.startTime())
+            || bookingDto.endTime().isAfter(window.endTime())) {
+            throw new ApiException(ErrorCode.SLOT_UNAVAILABLE);
+        }
+
+        Member mentor = memberRepository.findByIdForUpdate(window.mentorId()).orElseThrow(
+                () -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
+
+        if (slotBookingRepository.existsOverlapping(window.mentorId(), bookingDto.startTime(),
+                                                    bookingDto.endTime())) {
+            throw new ApiException(ErrorCode.SLOT_UNAVAILABLE);
+        }
+
+        SlotBooking booking = slotBookingRepository.save(bookingDto.toEntity(
+                availabilityWindowRepository.getReferenceById(window.id()), mentor,
+                memberRepository.getReferenceById(bookingDto.memberId())));
+        eventPublisher.publishEvent(SlotBookedEvent.of(
+                SlotBookingDetailDto.of(booking.getId(), window, bookingDto.startTime(),
+                                        bookingDto.endTime())));
+
+        return SlotBookingIdDto.of(booking.getId());
+    }
+
+    public List<FreeSlotDto> findFreeSlots(FreeSlotQueryDto queryDto) {
+        if (!queryDto.from().isBefore(queryDto.to())
+            || Duration.between(queryDto.from(), queryDto.to()).compareTo(MAX_SEARCH_RANGE) > 0) {
+            throw new ApiException(ErrorCode.INVALID_TIME_RANGE);
+        }
+
+        return availabilityIndex.findFreeSlots(queryDto);
+    }
+
+    private void validateRange(LocalDateTime startTime, LocalDateTime endTime, Duration maxLength) {
+        if (!startTime.isBefore(endTime)
+            || Duration.between(startTime, endTime).compareTo(maxLength) > 0) {
+            throw new ApiException(ErrorCode.INVALID_TIME_RANGE);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.mentalk.availability;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.mentalk.availability.domain.AvailabilityWindow;
+import org.mentalk.availability.dto.AvailabilityWindowDetailDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AvailabilityWindowRepository extends JpaRepository<AvailabilityWindow, Long> {
+
+    // 구간은 [start, end) 반열린 구간이라 맞닿은 구간은 겹치지 않는다.
+    @Query("""
+            select count(w) > 0
+            from AvailabilityWindow w
+            where w.mentor.id = :mentorId
+              and w.startTime < :endTime
+              and w.endTime > :startTime
+            """)
+    boolean existsOverlapping(@Param("mentorId") Long mentorId,
+                              @Param("startTime") LocalDateTime startTime,
+                              @Param("endTime") LocalDateTime endTime);
+
+    @Query("""
+            select new org.mentalk.availability.dto.AvailabilityWindowDetailDto(
+                w.id, w.mentor.id, w.sessionType, w.startTime, w.endTime)
+            from AvailabilityWindow w
+            where w.id = :windowId
+            """)
+    Optional<AvailabilityWindowDetailDto> findDetailById(@Param("windowId") Long windowId);
+
+    @Query("""
+            select new org.mentalk.availability.dto.AvailabilityWindowDetailDto(
+                w.id, w.mentor.id, w.sessionType, w.startTime, w.endTime)
+            from AvailabilityWindow w
+            where w.id > :afterId
+              and w.endTime > :endedAfter
+            order by w.id
+            """)
+    List<AvailabilityWindowDetailDto> findDetailsAfter(@Param("afterId") Long afterId,
+                                                       @Param("endedAfter") LocalDateTime endedAfter,
+                                                       Pageable pageable);
+
+    @Query("""
+            select new org.mentalk.availability.dto.AvailabilityWindowDetailDto(
+                w.id, w.mentor.id, w.sessionType, w.startTime, w.endTime)
+            from AvailabilityWindow w
+            where w.createdTime >= :since
+              and w.id > :afterId
+              and w.endTime > :endedAfter
+            order by w.id
+            """)
+    List<AvailabilityWindowDetailDto> findDetailsCreatedSince(
+            @Param("since") LocalDateTime since,
+            @Param("afterId") Long afterId,
+            @Param("endedAfter") LocalDateTime endedAfter,
+            Pageable pageable);
+}
@@ -0,0 +1,210 @@
+package org.mentalk.availability;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 시작 시각 순 AVL 트리의 각 노드에 서브트리 최대 종료 시각을 덧붙인 구간 트리.
+// 구간은 [start, end) 반열린 구간이고, 겹침 조회는 O(log n + k)에 시작 시각 순으로 돌려준다.
+// 동기화하지 않으므로 호출하는 쪽에서 잠가야 한다.
+class IntervalTree<T> {
+
+    private Node<T> root;
+    private int size;
+
+    // (start, id)가 같으면 교체한다.
+    public void insert(long start, long end, long id, T value) {
+        root = insert(root, new Node<>(start, end, id, value));
+    }
+
+    public boolean remove(long start, long id) {
+        int before = size;
+        root = remove(root, start, id);
+        return size < before;
+    }
+
+    public void forEachOverlapping(long from, long to, Consumer<? super T> action) {
+        forEachOverlapping(root, from, to, action);
+    }
+
+    public int removeEndedBefore(long time) {
+        List<Node<T>> ended = new ArrayList<>();
+        collectEndedBefore(root, time, ended);
+        ended.forEach(node -> remove(node.start, node.id));
+        return ended.size();
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> added) {
+        if (node == null) {
+            size++;
+            return added;
+        }
+
+        int comparison = compare(added.start, added.id, node);
+        if (comparison < 0) {
+            node.left = insert(node.left, added);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, added);
+        } else {
+            node.end = added.end;
+            node.value = added.value;
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> remove(Node<T> node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = compare(start, id, node);
+        if (comparison < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> removeMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private void forEachOverlapping(Node<T> node, long from, long to,
+                                    Consumer<? super T> action) {
+        // 서브트리의 모든 구간이 from 이전에 끝나면 볼 필요가 없다.
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+
+        forEachOverlapping(node.left, from, to, action);
+        // 이 노드와 오른쪽 서브트리는 모두 to 이후에 시작한다.
+        if (node.start >= to) {
+            return;
+        }
+        if (node.end > from) {
+            action.accept(node.value);
+        }
+        forEachOverlapping(node.right, from, to, action);
+    }
+
+    private void collectEndedBefore(Node<T> node, long time, List<Node<T>> ended) {
+        if (node == null) {
+            return;
+        }
+
+        collectEndedBefore(node.left, time, ended);
+        if (node.end <= time) {
+            ended.add(node);
+        }
+        collectEndedBefore(node.right, time, ended);
+    }
+
+    private Node<T> rebalance(Node<T> node) {
+        update(node);
+
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static void update(Node<?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = Math.max(node.end, Math.max(maxEnd(node.left), maxEnd(node.right)));
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static long maxEnd(Node<?> node) {
+        return node == null ? Long.MIN_VALUE : node.maxEnd;
+    }
+
+    private static int compare(long start, long id, Node<?> node) {
+        int comparison = Long.compare(start, node.start);
+        return comparison != 0 ? comparison : Long.compare(id, node.id);
+    }
+
+    private static final class Node<T> {
+
+        private final long start;
+        private final long id;
+        private long end;
+        private T value;
+        private long maxEnd;
+        private int height = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(long start, long end, long id, T value) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.mentalk.availability;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.mentalk.availability.domain.SlotBooking;
+import org.mentalk.availability.dto.SlotBookingDetailDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SlotBookingRepository extends JpaRepository<SlotBooking, Long> {
+
+    @Query("""
+            select count(b) > 0
+            from SlotBooking b
+            where b.mentor.id = :mentorId
+              and b.startTime < :endTime
+              and b.endTime > :startTime
+            """)
+    boolean existsOverlapping(@Param("mentorId") Long mentorId,
+                              @Param("startTime") LocalDateTime startTime,
+                              @Param("endTime") LocalDateTime endTime);
+
+    @Query("""
+            select new org.mentalk.availability.dto.SlotBookingDetailDto(
+                b.id, b.availabilityWindow.id, b.mentor.id, b.startTime, b.endTime)
+            from SlotBooking b
+            where b.id > :afterId
+              and b.endTime > :endedAfter
+            order by b.id
+            """)
+    List<SlotBookingDetailDto> findDetailsAfter(@Param("afterId") Long afterId,
+                                                @Param("endedAfter") LocalDateTime endedAfter,
+                                                Pageable pageable);
+
+    @Query("""
+            select new org.mentalk.availability.dto.SlotBookingDetailDto(
+                b.id, b.availabilityWindow.id, b.mentor.id, b.startTime, b.endTime)
+            from SlotBooking b
+            where b.createdTime >= :since
+              and b.id > :afterId
+              and b.endTime > :endedAfter
+            order by b.id
+            """)
+    List<SlotBookingDetailDto> findDetailsCreatedSince(@Param("since") LocalDateTime since,
+                                                       @Param("afterId") Long afterId,
+                                                       @Param("endedAfter") LocalDateTime endedAfter,
+                                                       Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package org.mentalk.availability.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.mentalk.common.domain.BaseTimeEntity;
+import org.mentalk.common.enums.SessionType;
+import org.mentalk.member.domain.Member;
+
+@Entity
+@Getter
+@Table(indexes = {
+        @Index(name = "idx_availability_window_mentor", columnList = "mentor_id, startTime"),
+        @Index(name = "idx_availability_window_created_time", columnList = "createdTime")
+})
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class AvailabilityWindow extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+                    generator = "availability_window_seq_generator")
+    @SequenceGenerator(name = "availability_window_seq_generator",
+                       sequenceName = "availability_window_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private Member mentor;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private SessionType sessionType;
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+}
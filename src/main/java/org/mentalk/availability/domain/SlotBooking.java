@@ -0,0 +1,58 @@
+package org.mentalk.availability.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.mentalk.common.domain.BaseTimeEntity;
+import org.mentalk.member.domain.Member;
+
+@Entity
+@Getter
+@Table(indexes = {
+        @Index(name = "idx_slot_booking_mentor", columnList = "mentor_id, startTime"),
+        @Index(name = "idx_slot_booking_created_time", columnList = "createdTime")
+})
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class SlotBooking extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "slot_booking_seq_generator")
+    @SequenceGenerator(name = "slot_booking_seq_generator", sequenceName = "slot_booking_seq",
+                       allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private AvailabilityWindow availabilityWindow;
+
+    // 겹침 검사와 인덱스가 멘토 단위이므로 공개 구간을 거치지 않고 바로 찾을 수 있게 둔다.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private Member mentor;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private Member member;
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+}
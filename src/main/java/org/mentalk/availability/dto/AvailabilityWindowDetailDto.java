@@ -0,0 +1,18 @@
+package org.mentalk.availability.dto;
+
+import java.time.LocalDateTime;
+import org.mentalk.availability.domain.AvailabilityWindow;
+import org.mentalk.common.enums.SessionType;
+
+public record AvailabilityWindowDetailDto(Long id,
+                                          Long mentorId,
+                                          SessionType sessionType,
+                                          LocalDateTime startTime,
+                                          LocalDateTime endTime) {
+
+    public static AvailabilityWindowDetailDto of(AvailabilityWindow window) {
+        return new AvailabilityWindowDetailDto(window.getId(), window.getMentor().getId(),
+                                               window.getSessionType(), window.getStartTime(),
+                                               window.getEndTime());
+    }
+}
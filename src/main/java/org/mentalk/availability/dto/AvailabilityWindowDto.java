@@ -0,0 +1,27 @@
+package org.mentalk.availability.dto;
+
+import java.time.LocalDateTime;
+import org.mentalk.availability.domain.AvailabilityWindow;
+import org.mentalk.availability.request.AvailabilityWindowCreateRequest;
+import org.mentalk.common.enums.SessionType;
+import org.mentalk.member.domain.Member;
+
+public record AvailabilityWindowDto(Long mentorId,
+                                    SessionType sessionType,
+                                    LocalDateTime startTime,
+                                    LocalDateTime endTime) {
+
+    public static AvailabilityWindowDto of(AvailabilityWindowCreateRequest request, Long mentorId) {
+        return new AvailabilityWindowDto(mentorId, request.sessionType(), request.startTime(),
+                                         request.endTime());
+    }
+
+    public AvailabilityWindow toEntity(Member mentor) {
+        return AvailabilityWindow.builder()
+                                 .mentor(mentor)
+                                 .sessionType(sessionType)
+                                 .startTime(startTime)
+                                 .endTime(endTime)
+                                 .build();
+    }
+}
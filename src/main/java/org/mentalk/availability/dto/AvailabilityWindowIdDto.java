@@ -0,0 +1,8 @@
+package org.mentalk.availability.dto;
+
+public record AvailabilityWindowIdDto(Long id) {
+
+    public static AvailabilityWindowIdDto of(Long id) {
+        return new AvailabilityWindowIdDto(id);
+    }
+}
@@ -0,0 +1,8 @@
+package org.mentalk.availability.dto;
+
+public record AvailabilityWindowPublishedEvent(AvailabilityWindowDetailDto window) {
+
+    public static AvailabilityWindowPublishedEvent of(AvailabilityWindowDetailDto window) {
+        return new AvailabilityWindowPublishedEvent(window);
+    }
+}
@@ -0,0 +1,17 @@
+package org.mentalk.availability.dto;
+
+import java.time.LocalDateTime;
+import org.mentalk.common.enums.SessionType;
+
+public record FreeSlotDto(Long mentorId,
+                          Long windowId,
+                          SessionType sessionType,
+                          LocalDateTime startTime,
+                          LocalDateTime endTime) {
+
+    public static FreeSlotDto of(AvailabilityWindowDetailDto window, LocalDateTime startTime,
+                                 LocalDateTime endTime) {
+        return new FreeSlotDto(window.mentorId(), window.id(), window.sessionType(), startTime,
+                               endTime);
+    }
+}
@@ -0,0 +1,23 @@
+package org.mentalk.availability.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.mentalk.availability.request.FreeSlotSearchRequest;
+import org.mentalk.common.enums.SessionType;
+
+public record FreeSlotQueryDto(LocalDateTime from,
+                               LocalDateTime to,
+                               SessionType sessionType,
+                               Duration minDuration,
+                               int size) {
+
+    private static final int DEFAULT_MIN_MINUTES = 30;
+    private static final int DEFAULT_SIZE = 100;
+
+    public static FreeSlotQueryDto of(FreeSlotSearchRequest request) {
+        int minMinutes = request.minMinutes() != null ? request.minMinutes() : DEFAULT_MIN_MINUTES;
+        return new FreeSlotQueryDto(request.from(), request.to(), request.sessionType(),
+                                    Duration.ofMinutes(minMinutes),
+                                    request.size() != null ? request.size() : DEFAULT_SIZE);
+    }
+}
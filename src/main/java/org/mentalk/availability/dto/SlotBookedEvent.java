@@ -0,0 +1,8 @@
+package org.mentalk.availability.dto;
+
+public record SlotBookedEvent(SlotBookingDetailDto booking) {
+
+    public static SlotBookedEvent of(SlotBookingDetailDto booking) {
+        return new SlotBookedEvent(booking);
+    }
+}
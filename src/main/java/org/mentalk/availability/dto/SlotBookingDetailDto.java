@@ -0,0 +1,15 @@
+package org.mentalk.availability.dto;
+
+import java.time.LocalDateTime;
+
+public record SlotBookingDetailDto(Long id,
+                                   Long windowId,
+                                   Long mentorId,
+                                   LocalDateTime startTime,
+                                   LocalDateTime endTime) {
+
+    public static SlotBookingDetailDto of(Long id, AvailabilityWindowDetailDto window,
+                                          LocalDateTime startTime, LocalDateTime endTime) {
+        return new SlotBookingDetailDto(id, window.id(), window.mentorId(), startTime, endTime);
+    }
+}
@@ -0,0 +1,27 @@
+package org.mentalk.availability.dto;
+
+import java.time.LocalDateTime;
+import org.mentalk.availability.domain.AvailabilityWindow;
+import org.mentalk.availability.domain.SlotBooking;
+import org.mentalk.availability.request.SlotBookingRequest;
+import org.mentalk.member.domain.Member;
+
+public record SlotBookingDto(Long windowId,
+                             Long memberId,
+                             LocalDateTime startTime,
+                             LocalDateTime endTime) {
+
+    public static SlotBookingDto of(SlotBookingRequest request, Long windowId, Long memberId) {
+        return new SlotBookingDto(windowId, memberId, request.startTime(), request.endTime());
+    }
+
+    public SlotBooking toEntity(AvailabilityWindow window, Member mentor, Member member) {
+        return SlotBooking.builder()
+                          .availabilityWindow(window)
+                          .mentor(mentor)
+                          .member(member)
+                          .startTime(startTime)
+                          .endTime(endTime)
+                          .build();
+    }
+}
@@ -0,0 +1,8 @@
+package org.mentalk.availability.dto;
+
+public record SlotBookingIdDto(Long id) {
+
+    public static SlotBookingIdDto of(Long id) {
+        return new SlotBookingIdDto(id);
+    }
+}
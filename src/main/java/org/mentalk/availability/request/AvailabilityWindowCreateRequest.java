@@ -0,0 +1,11 @@
+package org.mentalk.availability.request;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import org.mentalk.common.enums.SessionType;
+
+public record AvailabilityWindowCreateRequest(@NotNull SessionType sessionType,
+                                              @NotNull @Future LocalDateTime startTime,
+                                              @NotNull LocalDateTime endTime) {
+}
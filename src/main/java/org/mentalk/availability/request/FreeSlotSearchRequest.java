@@ -0,0 +1,17 @@
+package org.mentalk.availability.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import org.mentalk.common.enums.SessionType;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+public record FreeSlotSearchRequest(
+        @NotNull @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+        @NotNull @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+        SessionType sessionType,
+        @Min(1) @Max(1440) Integer minMinutes,
+        @Min(1) @Max(500) Integer size) {
+}
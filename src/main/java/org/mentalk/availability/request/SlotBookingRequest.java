@@ -0,0 +1,9 @@
+package org.mentalk.availability.request;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+public record SlotBookingRequest(@NotNull @Future LocalDateTime startTime,
+                                 @NotNull LocalDateTime endTime) {
+}
@@ -0,0 +1,90 @@
+package org.mentalk.common.bloom;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.mentalk.common.sync.CreatedTimePoller;
+import org.mentalk.common.sync.CreatedTimePollers;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+
+// 인스턴스마다 따로 두는 필터라 다른 인스턴스의 추가는 동기화 주기만큼 늦게 반영된다.
+// 그동안 "없음"이 틀릴 수 있으므로 결과가 참고용인 조회(가입 전 이메일 중복 확인 등)에만 쓴다.
+@Slf4j
+public abstract class ExistenceFilter {
+
+    private final String name;
+    private final long expectedInsertions;
+    private final BloomFilter bloomFilter;
+    private final CreatedTimePoller<ExistenceKey> poller;
+    private final Counter absent;
+    private final Counter maybe;
+    private volatile boolean ready;
+
+    protected ExistenceFilter(String name, MeterRegistry meterRegistry, long expectedInsertions,
+                              double falsePositiveRate, int batchSize,
+                              CreatedTimePollers createdTimePollers) {
+        this.name = name;
+        this.expectedInsertions = expectedInsertions;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.poller = createdTimePollers.create(batchSize, this::findKeysCreatedSince,
+                                                ExistenceKey::id, key -> add(key.value()));
+        this.absent = Counter.builder("bloom.filter.lookups")
+                             .tag("filter", name)
+                             .tag("result", "absent")
+                             .register(meterRegistry);
+        this.maybe = Counter.builder("bloom.filter.lookups")
+                            .tag("filter", name)
+                            .tag("result", "maybe")
+                            .register(meterRegistry);
+    }
+
+    // 워밍업이 끝나기 전에는 항상 DB를 조회하도록 true를 반환한다.
+    public boolean mightExist(String value) {
+        if (!ready) {
+            return true;
+        }
+
+        if (bloomFilter.mightContain(normalize(value))) {
+            maybe.increment();
+            return true;
+        }
+        absent.increment();
+        return false;
+    }
+
+    public void add(String value) {
+        bloomFilter.put(normalize(value));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int loaded = poller.load(this::findKeysAfter);
+        ready = true;
+
+        log.info("{} bloom filter ready: {} values, {} bits, {} hashes", name, loaded,
+                 bloomFilter.bitSize(), bloomFilter.hashCount());
+        if (loaded > expectedInsertions / 2) {
+            log.warn("{} bloom filter holds {} of {} expected values; raise its expected insertions",
+                     name, loaded, expectedInsertions);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bloom.sync-interval-ms:5000}")
+    public void sync() {
+        poller.poll();
+    }
+
+    protected abstract List<ExistenceKey> findKeysAfter(long afterId, Pageable pageable);
+
+    protected abstract List<ExistenceKey> findKeysCreatedSince(LocalDateTime since, long afterId,
+                                                               Pageable pageable);
+
+    protected String normalize(String value) {
+        return value;
+    }
+}
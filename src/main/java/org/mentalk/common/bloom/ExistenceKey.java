@@ -0,0 +1,4 @@
+package org.mentalk.common.bloom;
+
+public record ExistenceKey(Long id, String value) {
+}
@@ -0,0 +1,69 @@
+package org.mentalk.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+@Slf4j
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "org.mentalk.";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+    private final RecordingStream recordingStream = new RecordingStream();
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public void destroy() {
+        recordingStream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                                     ? event.getStackTrace().getFrames()
+                                     : List.of();
+
+        // 고정을 일으킨 우리 코드의 위치를 태그로 남겨 synchronized 구간을 찾을 수 있게 한다.
+        String location = frames.stream()
+                                .filter(frame -> frame.getMethod()
+                                                      .getType()
+                                                      .getName()
+                                                      .startsWith(APPLICATION_PACKAGE))
+                                .findFirst()
+                                .map(VirtualThreadPinningMonitor::format)
+                                .orElse("external");
+
+        Counter.builder("jvm.threads.virtual.pinned")
+               .description("Virtual threads pinned to their carrier while blocking")
+               .tag("location", location)
+               .register(meterRegistry)
+               .increment();
+
+        log.warn("Virtual thread pinned for {} ms at {}\n\t{}", event.getDuration().toMillis(),
+                 location, frames.stream()
+                                 .limit(LOGGED_FRAMES)
+                                 .map(VirtualThreadPinningMonitor::format)
+                                 .collect(Collectors.joining("\n\t")));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+               + frame.getLineNumber();
+    }
+}
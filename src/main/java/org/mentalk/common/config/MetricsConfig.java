@@ -0,0 +1,79 @@
+package org.mentalk.common.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final Set<String> LATENCY_CRITICAL_ROUTES = Set.of(
+            "POST /api/auth/login",
+            "POST /api/auth/password/reset",
+            "POST /api/members",
+            "POST /api/sessions",
+            "POST /api/sessions/bulk");
+
+    private static final double[] SERVICE_LEVEL_OBJECTIVES = {
+            Duration.ofMillis(50).toNanos(),
+            Duration.ofMillis(100).toNanos(),
+            Duration.ofMillis(250).toNanos(),
+            Duration.ofMillis(500).toNanos(),
+            Duration.ofSeconds(1).toNanos(),
+            Duration.ofSeconds(2).toNanos()};
+
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> commonTags(
+            @Value("${spring.application.name:mentalk}") String applicationName) {
+        return registry -> registry.config().commonTags("application", applicationName);
+    }
+
+    @Bean
+    public MeterFilter latencyDistributionFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id,
+                                                         DistributionStatisticConfig config) {
+                if (!isLatencyCritical(id)) {
+                    return config;
+                }
+
+                return DistributionStatisticConfig.builder()
+                                                  .percentilesHistogram(true)
+                                                  .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                                                  .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                                                  .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                                                  .build()
+                                                  .merge(config);
+            }
+        };
+    }
+
+    // HibernateMetrics 바인더는 통계 수집이 켜져 있어야 값을 기록한다.
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsCustomizer(
+            @Value("${metrics.hibernate.enabled:true}") boolean enabled) {
+        return (Map<String, Object> properties) -> properties.putIfAbsent(
+                AvailableSettings.GENERATE_STATISTICS, enabled);
+    }
+
+    static boolean isLatencyCritical(Meter.Id id) {
+        String name = id.getName();
+        if (name.equals("password.hash") || name.startsWith("jwt.")) {
+            return true;
+        }
+
+        return name.equals("http.server.requests")
+               && LATENCY_CRITICAL_ROUTES.contains(id.getTag("method") + " " + id.getTag("uri"));
+    }
+}
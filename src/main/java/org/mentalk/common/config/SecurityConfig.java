@@ -1,11 +1,13 @@
 package org.mentalk.common.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.mentalk.common.response.ApiResponse;
 import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.response.ErrorResponses;
+import org.mentalk.common.security.BCryptStrengthCalibrator;
 import org.mentalk.common.security.JwtFilter;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,6 +16,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -29,8 +32,18 @@ public class SecurityConfig {
     private final JwtFilter jwtFilter;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.hash.strength:0}") int strength,
+            @Value("${password.hash.target-latency-ms:250}") long targetLatencyMillis) {
+        int bcryptStrength = strength > 0
+                             ? strength
+                             : BCryptStrengthCalibrator.calibrate(targetLatencyMillis);
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                "bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        return passwordEncoder;
     }
 
     @Bean
@@ -55,32 +68,26 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                     .requestMatchers("/api/auth/**")
                     .permitAll()
+                    // 관리 포트가 분리되어 있으면 관리 컨텍스트로 들어온 요청에만 맞는다.
+                    .requestMatchers(EndpointRequest.toAnyEndpoint())
+                    .permitAll()
                     .requestMatchers(HttpMethod.POST, "/api/members")
                     .permitAll()
-                    .requestMatchers(HttpMethod.POST, "/api/sessions")
+                    .requestMatchers(HttpMethod.POST, "/api/sessions", "/api/sessions/bulk",
+                                     "/api/availability")
                     .hasRole("MENTOR")
+                    .requestMatchers("/api/admin/**")
+                    .hasRole("ADMIN")
+                    .requestMatchers(HttpMethod.GET, "/api/sessions/export")
+                    .hasRole("ADMIN")
                     .anyRequest()
                     .authenticated()
             )
             .exceptionHandling(exceptions -> exceptions
-                    .authenticationEntryPoint((request, response, authException) -> {
-                        response.setContentType("application/json; charset=UTF-8");
-                        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                        response.getWriter()
-                                .write(new ObjectMapper().writeValueAsString(
-                                        ApiResponse.failure(ErrorCode.UNAUTHORIZED.getCode(),
-                                                            ErrorCode.UNAUTHORIZED.getMessage())
-                                ));
-                    })
-                    .accessDeniedHandler((request, response, accessDeniedException) -> {
-                        response.setContentType("application/json; charset=UTF-8");
-                        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-                        response.getWriter()
-                                .write(new ObjectMapper().writeValueAsString(
-                                        ApiResponse.failure(ErrorCode.FORBIDDEN.getCode(),
-                                                            ErrorCode.FORBIDDEN.getMessage())
-                                ));
-                    })
+                    .authenticationEntryPoint((request, response, authException) ->
+                            ErrorResponses.write(response, ErrorCode.UNAUTHORIZED))
+                    .accessDeniedHandler((request, response, accessDeniedException) ->
+                            ErrorResponses.write(response, ErrorCode.FORBIDDEN))
             )
             .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -0,0 +1,68 @@
+package org.mentalk.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.mentalk.common.concurrent.ConcurrencyLimitFilter;
+import org.mentalk.common.concurrent.VirtualThreadPinningMonitor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+@Slf4j
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${virtual.max-concurrent-requests:0}") int maxConcurrentRequests,
+            @Value("${virtual.requests-per-connection:4}") int requestsPerConnection,
+            @Value("${virtual.acquire-timeout-ms:500}") long acquireTimeoutMillis) {
+        int poolSize = maximumPoolSize(dataSource);
+        int permits = maxConcurrentRequests > 0
+                      ? maxConcurrentRequests
+                      : poolSize * requestsPerConnection;
+
+        log.info("Virtual threads enabled: {} concurrent requests for {} database connections",
+                 permits, poolSize);
+
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(permits, acquireTimeoutMillis);
+        Gauge.builder("http.server.concurrency.permits", filter,
+                      ConcurrencyLimitFilter::availablePermits)
+             .description("Request slots left before new requests are rejected")
+             .register(meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual.pinning-threshold-ms:20}") long thresholdMillis) {
+        return new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(thresholdMillis));
+    }
+
+    private int maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not read connection pool size", e);
+        }
+        return 10;
+    }
+}
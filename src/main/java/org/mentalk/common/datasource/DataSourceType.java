@@ -0,0 +1,6 @@
+package org.mentalk.common.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,105 @@
+package org.mentalk.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.mentalk.common.security.PrincipalDetails;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 쓰기 직후 복제 지연 동안 자기 데이터를 못 읽는 일이 없도록, 쓴 키(회원, 이메일, 전화번호)를
+// pin 시간 동안 기억했다가 그 키를 읽는 조회를 primary로 보낸다. 레플리카가 없으면 아무것도 하지 않는다.
+@Component
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final Cache<String, Boolean> pins;
+
+    @Autowired
+    public ReadYourWrites(@Value("${datasource.replica.url:}") String replicaUrl,
+                          @Value("${datasource.replica.pin-ms:5000}") long pinMillis,
+                          @Value("${datasource.replica.pin-maximum-size:100000}") long maximumSize) {
+        this(!replicaUrl.isBlank(), Duration.ofMillis(pinMillis), maximumSize);
+    }
+
+    public ReadYourWrites(boolean enabled, Duration pinDuration, long maximumSize) {
+        this.enabled = enabled;
+        this.pins = Caffeine.newBuilder()
+                            .maximumSize(maximumSize)
+                            .expireAfterWrite(pinDuration)
+                            .build();
+    }
+
+    public static ReadYourWrites disabled() {
+        return new ReadYourWrites(false, Duration.ZERO, 0);
+    }
+
+    public static String memberKey(Long memberId) {
+        return "member:" + memberId;
+    }
+
+    public static String emailKey(String email) {
+        return "email:" + email;
+    }
+
+    public static String phoneNumberKey(String phoneNumber) {
+        return "phone:" + phoneNumber;
+    }
+
+    // 복제 지연은 커밋 시점부터 시작하므로 트랜잭션 안이면 커밋 후에 기록한다.
+    public void pin(String... keys) {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(keys);
+                }
+            });
+        } else {
+            record(keys);
+        }
+    }
+
+    public <T> T readOwnWrites(String key, Supplier<T> read) {
+        if (!enabled || pins.getIfPresent(key) == null || Boolean.TRUE.equals(PRIMARY_REQUIRED.get())) {
+            return read.get();
+        }
+
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+
+    // 명시적으로 요청됐거나, 인증된 회원 자신이 방금 쓴 경우 primary가 필요하다.
+    boolean isPrimaryRequired() {
+        if (Boolean.TRUE.equals(PRIMARY_REQUIRED.get())) {
+            return true;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+               && authentication.getPrincipal() instanceof PrincipalDetails principal
+               && pins.getIfPresent(memberKey(principal.id())) != null;
+    }
+
+    private void record(String... keys) {
+        for (String key : keys) {
+            pins.put(key, Boolean.TRUE);
+        }
+    }
+}
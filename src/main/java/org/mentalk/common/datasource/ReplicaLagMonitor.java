@@ -0,0 +1,90 @@
+package org.mentalk.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+// 레플리카가 응답하지 않거나 지연이 maxLag를 넘으면 읽기를 primary로 돌린다.
+// lagQuery는 지연(초)을 한 값으로 돌려주는 쿼리다. 비어 있으면 연결 가능 여부만 본다.
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource replicaDataSource;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, Duration maxLag,
+                             MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+             .baseUnit("seconds")
+             .description("Replication lag reported by the replica lag query")
+             .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+             .description("Whether read-only transactions are routed to the replica")
+             .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            lagSeconds = measureLagSeconds();
+            usable = lagSeconds * 1000 <= maxLag.toMillis();
+        } catch (SQLException e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Replica check failed, routing reads to primary", e);
+            }
+            return;
+        }
+
+        if (wasUsable != usable) {
+            log.info("Replica {} (lag {}s, max {}ms)",
+                     usable ? "usable" : "lagging, reads go to primary", lagSeconds,
+                     maxLag.toMillis());
+        }
+    }
+
+    private double measureLagSeconds() throws SQLException {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Replica connection is not valid");
+                }
+                return 0;
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+                try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    // 결과가 없거나 NULL이면(예: 복제 중지) 지연을 알 수 없으므로 쓰지 않는다.
+                    if (!resultSet.next()) {
+                        return Double.POSITIVE_INFINITY;
+                    }
+                    double lag = resultSet.getDouble(1);
+                    return resultSet.wasNull() ? Double.POSITIVE_INFINITY : lag;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.mentalk.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 커넥션을 실제로 얻는 시점에 대상이 정해지므로 LazyConnectionDataSourceProxy로 감싸야
+// 트랜잭션의 readOnly 속성이 반영된다.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWrites readYourWrites;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor replicaLagMonitor,
+                                    ReadYourWrites readYourWrites) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean useReplica = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                             && replicaLagMonitor.isReplicaUsable()
+                             && !readYourWrites.isPrimaryRequired();
+
+        return useReplica ? DataSourceType.REPLICA : DataSourceType.PRIMARY;
+    }
+}
@@ -19,6 +19,10 @@ public enum ErrorCode {
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "G006", "인증에 실패했습니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "G007", "접근 권한이 없습니다."),
 
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "G008", "유효하지 않은 커서입니다."),
+    INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "G009", "지원하지 않는 내보내기 형식입니다."),
+    INVALID_TIME_RANGE(HttpStatus.BAD_REQUEST, "G010", "유효하지 않은 시간 범위입니다."),
+
     // 401 UnAuthorized
     INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "A001", "비밀번호가 일치하지 않습니다."),
 
@@ -26,13 +30,27 @@ public enum ErrorCode {
     EMAIL_NOT_FOUND(HttpStatus.NOT_FOUND, "N001", "가입되지 않은 이메일입니다."),
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "N002", "회원 정보를 찾을 수 없습니다."),
     ACCOUNT_NOT_FOUND(HttpStatus.NOT_FOUND, "N003", "계정 정보를 찾을 수 없습니다."),
+    SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "N004", "세션 정보를 찾을 수 없습니다."),
+    AVAILABILITY_WINDOW_NOT_FOUND(HttpStatus.NOT_FOUND, "N005", "상담 가능 시간을 찾을 수 없습니다."),
 
     // 409 Conflict
     ALREADY_EMAIL_IN_USE(HttpStatus.CONFLICT, "C001", "이미 사용 중인 이메일입니다."),
     ALREADY_ACCOUNT_REGISTERED(HttpStatus.CONFLICT, "C002", "이미 계정이 등록된 회원입니다."),
+    SESSION_FULL(HttpStatus.CONFLICT, "C003", "남은 좌석이 없습니다."),
+    ALREADY_RESERVED(HttpStatus.CONFLICT, "C004", "이미 예약한 세션입니다."),
+    ALREADY_PHONE_NUMBER_IN_USE(HttpStatus.CONFLICT, "C005", "이미 사용 중인 전화번호입니다."),
+    AVAILABILITY_OVERLAP(HttpStatus.CONFLICT, "C006", "이미 공개한 시간과 겹칩니다."),
+    SLOT_UNAVAILABLE(HttpStatus.CONFLICT, "C007", "예약할 수 없는 시간입니다."),
+
+    // 429 Too Many Requests
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "T001", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 500 Server Error
-    JWT_CREATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S001", "JWT 생성 중 오류가 발생했습니다.");
+    JWT_CREATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S001", "JWT 생성 중 오류가 발생했습니다."),
+
+    // 503 Service Unavailable
+    PASSWORD_HASH_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "U001", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "U002", "서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String code;
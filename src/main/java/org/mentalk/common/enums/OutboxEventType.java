@@ -0,0 +1,7 @@
+package org.mentalk.common.enums;
+
+public enum OutboxEventType {
+    MEMBER_SIGNED_UP,
+    MEMBER_BECAME_MENTOR,
+    SESSION_CREATED
+}
@@ -2,5 +2,6 @@ package org.mentalk.common.enums;
 
 public enum Role {
     USER,
-    MENTOR
+    MENTOR,
+    ADMIN
 }
@@ -8,8 +8,13 @@ public class ApiException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
+    // 예상된 비즈니스 예외이므로 스택 트레이스를 채우지 않는다.
     public ApiException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        this(errorCode, null);
+    }
+
+    public ApiException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode.getMessage(), cause, false, false);
         this.errorCode = errorCode;
     }
 }
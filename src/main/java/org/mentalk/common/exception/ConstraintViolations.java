@@ -0,0 +1,49 @@
+package org.mentalk.common.exception;
+
+import java.util.Locale;
+import java.util.Map;
+import org.hibernate.exception.ConstraintViolationException;
+import org.mentalk.common.enums.ErrorCode;
+import org.springframework.dao.DataIntegrityViolationException;
+
+// 유니크 제약 이름으로 위반 원인을 구분한다. 사전 조회 없이 제약에 맡기는 쓰기 경로가 이 매핑에 의존한다.
+public final class ConstraintViolations {
+
+    private static final Map<String, ErrorCode> ERROR_CODES = Map.of(
+            "uk_member_phone_number", ErrorCode.ALREADY_PHONE_NUMBER_IN_USE,
+            "uk_local_account_member", ErrorCode.ALREADY_ACCOUNT_REGISTERED,
+            "uk_local_account_email", ErrorCode.ALREADY_EMAIL_IN_USE,
+            "uk_reservation_session_member", ErrorCode.ALREADY_RESERVED);
+
+    private ConstraintViolations() {
+    }
+
+    public static ErrorCode toErrorCode(DataIntegrityViolationException e) {
+        String violated = describe(e);
+        if (violated == null) {
+            return ErrorCode.DATA_INTEGRITY_VIOLATION;
+        }
+
+        // MySQL은 "member.uk_member_phone_number", H2는 인덱스 정의 전체를 돌려주므로 포함 여부로 비교한다.
+        String normalized = violated.toLowerCase(Locale.ROOT);
+        for (Map.Entry<String, ErrorCode> entry : ERROR_CODES.entrySet()) {
+            if (normalized.contains(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+
+        return ErrorCode.DATA_INTEGRITY_VIOLATION;
+    }
+
+    private static String describe(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName() != null
+                       ? violation.getConstraintName()
+                       : violation.getMessage();
+            }
+        }
+
+        return e.getMessage();
+    }
+}
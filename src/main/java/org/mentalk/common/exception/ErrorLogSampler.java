@@ -0,0 +1,63 @@
+package org.mentalk.common.exception;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.mentalk.common.enums.ErrorCode;
+
+public class ErrorLogSampler {
+
+    public static final int SKIP = -1;
+
+    private final long windowNanos;
+    private final int logsPerWindow;
+    private final LongSupplier nanoTime;
+    private final Map<ErrorCode, Window> windows = new EnumMap<>(ErrorCode.class);
+
+    public ErrorLogSampler(Duration window, int logsPerWindow) {
+        this(window, logsPerWindow, System::nanoTime);
+    }
+
+    ErrorLogSampler(Duration window, int logsPerWindow, LongSupplier nanoTime) {
+        this.windowNanos = window.toNanos();
+        this.logsPerWindow = logsPerWindow;
+        this.nanoTime = nanoTime;
+
+        long now = nanoTime.getAsLong();
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            windows.put(errorCode, new Window(now));
+        }
+    }
+
+    // 로그를 남겨야 하면 그동안 생략된 건수를, 생략해야 하면 SKIP 을 반환한다.
+    public int sample(ErrorCode errorCode) {
+        Window window = windows.get(errorCode);
+        long now = nanoTime.getAsLong();
+
+        long start = window.start.get();
+        if (now - start >= windowNanos && window.start.compareAndSet(start, now)) {
+            window.logged.set(0);
+        }
+
+        if (window.logged.incrementAndGet() <= logsPerWindow) {
+            return window.suppressed.getAndSet(0);
+        }
+
+        window.suppressed.incrementAndGet();
+        return SKIP;
+    }
+
+    private static class Window {
+
+        private final AtomicLong start;
+        private final AtomicInteger logged = new AtomicInteger();
+        private final AtomicInteger suppressed = new AtomicInteger();
+
+        private Window(long start) {
+            this.start = new AtomicLong(start);
+        }
+    }
+}
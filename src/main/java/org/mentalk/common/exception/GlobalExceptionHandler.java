@@ -1,8 +1,12 @@
 package org.mentalk.common.exception;
 
+import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
-import org.mentalk.common.response.ApiResponse;
 import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.response.ErrorResponses;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -11,31 +15,66 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorLogSampler errorLogSampler;
+
+    public GlobalExceptionHandler(
+            @Value("${logging.expected-errors.per-second:5}") int expectedErrorsPerSecond) {
+        this.errorLogSampler = new ErrorLogSampler(Duration.ofSeconds(1), expectedErrorsPerSecond);
+    }
+
     @ExceptionHandler(ApiException.class)
-    public ResponseEntity<ApiResponse> handleApiException(ApiException e) {
+    public ResponseEntity<byte[]> handleApiException(ApiException e) {
         ErrorCode errorCode = e.getErrorCode();
 
-        log.error("{} {}", errorCode.getCode(), errorCode.getMessage(), e);
+        // 503은 과부하 때 요청을 일부러 거절하는 응답이라, 폭주할 때 에러 로그가 같이 쏟아지지 않도록 샘플링한다.
+        if (errorCode.getStatus().is5xxServerError()
+            && errorCode.getStatus() != HttpStatus.SERVICE_UNAVAILABLE) {
+            log.error("{} {}", errorCode.getCode(), errorCode.getMessage(), e.getCause());
+        } else {
+            logExpected(errorCode);
+        }
+
+        return ErrorResponses.toResponseEntity(errorCode);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<byte[]> handleDataIntegrityViolation(DataIntegrityViolationException e) {
+        ErrorCode errorCode = ConstraintViolations.toErrorCode(e);
+
+        logExpected(errorCode);
 
-        return ResponseEntity.status(errorCode.getStatus())
-                             .body(ApiResponse.failure(errorCode.getCode(),
-                                                       errorCode.getMessage()));
+        return ErrorResponses.toResponseEntity(errorCode);
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse> handleExceptions(Exception e) {
+    public ResponseEntity<byte[]> handleExceptions(Exception e) {
         ErrorCode errorCode = switch (e.getClass().getSimpleName()) {
-            case "DataIntegrityViolationException" -> ErrorCode.DATA_INTEGRITY_VIOLATION;
             case "MethodArgumentNotValidException" -> ErrorCode.METHOD_ARG_NOT_VALID;
             case "HttpMessageNotReadableException" -> ErrorCode.HTTP_MESSAGE_NOT_READABLE;
             case "HttpMessageConversionException" -> ErrorCode.HTTP_MESSAGE_CONVERSION;
             default -> ErrorCode.UNEXPECTED_ERROR;
         };
 
-        log.error("{} {}", errorCode.getCode(), errorCode.getMessage(), e);
+        if (errorCode == ErrorCode.UNEXPECTED_ERROR) {
+            log.error("{} {}", errorCode.getCode(), errorCode.getMessage(), e);
+        } else {
+            logExpected(errorCode);
+        }
+
+        return ErrorResponses.toResponseEntity(errorCode);
+    }
+
+    private void logExpected(ErrorCode errorCode) {
+        int suppressed = errorLogSampler.sample(errorCode);
+        if (suppressed == ErrorLogSampler.SKIP) {
+            return;
+        }
 
-        return ResponseEntity.status(errorCode.getStatus())
-                             .body(ApiResponse.failure(errorCode.getCode(),
-                                                       errorCode.getMessage()));
+        if (suppressed > 0) {
+            log.warn("{} {} ({} more suppressed)", errorCode.getCode(), errorCode.getMessage(),
+                     suppressed);
+        } else {
+            log.warn("{} {}", errorCode.getCode(), errorCode.getMessage());
+        }
     }
 }
@@ -0,0 +1,34 @@
+package org.mentalk.common.export;
+
+import jakarta.persistence.EntityManager;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 내보내기 쿼리만 전방향 커서로 흘려 읽는다. 풀 전체에 커서 설정을 걸면 모든 쿼리가 서버 prepare를 거치게 된다.
+// MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때 행 단위로 스트리밍하고, 다른 드라이버는 음수를 거부한다.
+@Component
+public class ExportQueries {
+
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public ExportQueries(EntityManager entityManager,
+                         @Value("${spring.datasource.url:}") String url,
+                         @Value("${export.fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = url.startsWith("jdbc:mysql:") ? MYSQL_STREAMING_FETCH_SIZE : fetchSize;
+    }
+
+    // 트랜잭션 안에서 호출하고 다 읽으면 닫아야 한다. DTO 프로젝션을 쓰면 영속성 컨텍스트에 엔티티가 쌓이지 않는다.
+    public <T> Stream<T> stream(String jpql, Class<T> type) {
+        return entityManager.createQuery(jpql, type)
+                            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                            .setHint(HibernateHints.HINT_READ_ONLY, true)
+                            .setHint(HibernateHints.HINT_CACHEABLE, false)
+                            .getResultStream();
+    }
+}
@@ -0,0 +1,9 @@
+package org.mentalk.common.export;
+
+import java.util.List;
+
+// NDJSON은 레코드 컴포넌트를 그대로 직렬화하고, CSV는 values()의 순서를 열 순서로 쓴다.
+public interface ExportRow {
+
+    List<Object> values();
+}
@@ -0,0 +1,80 @@
+package org.mentalk.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 행을 하나씩 받아 바로 쓴다. 버퍼 크기만큼만 메모리에 머무르므로 행 수와 무관하게 힙 사용량이 일정하다.
+@Component
+@RequiredArgsConstructor
+public class ExportWriter {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public <T extends ExportRow> long write(Stream<T> rows, ExportFormat format,
+                                            List<String> header, OutputStream outputStream)
+            throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, List.copyOf(header));
+        }
+
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, row.values());
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            count++;
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvLine(Writer writer, List<Object> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(toCsvField(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    static String toCsvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String field = value.toString();
+        // 스프레드시트에서 열었을 때 수식으로 실행되지 않도록 문자열 값의 수식 시작 문자를 무력화한다.
+        if (value instanceof CharSequence && !field.isEmpty()
+            && "=+-@\t\r".indexOf(field.charAt(0)) >= 0) {
+            field = "'" + field;
+        }
+
+        if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0
+            || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+            return '"' + field.replace("\"", "\"\"") + '"';
+        }
+        return field;
+    }
+}
@@ -0,0 +1,25 @@
+package org.mentalk.common.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 전달할 이벤트를 짧은 트랜잭션 안에서 가져가고 임대 시각까지 미뤄 둔다.
+// 커밋 후에는 다른 인스턴스가 임대가 끝날 때까지 같은 행을 가져가지 않으므로, 전달은 잠금과 커넥션 없이 한다.
+@Component
+@RequiredArgsConstructor
+public class OutboxClaimer {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Transactional
+    public List<OutboxEvent> claim(LocalDateTime now, LocalDateTime leasedUntil, int batchSize) {
+        List<OutboxEvent> events = outboxEventRepository.findDispatchable(
+                now, PageRequest.ofSize(batchSize));
+        events.forEach(event -> event.leaseUntil(leasedUntil));
+        return events;
+    }
+}
@@ -0,0 +1,103 @@
+package org.mentalk.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxClaimer outboxClaimer;
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSubscriber> subscribers;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Timer deliveryLag;
+
+    public OutboxDispatcher(OutboxClaimer outboxClaimer,
+                            OutboxEventRepository outboxEventRepository,
+                            List<OutboxSubscriber> subscribers,
+                            MeterRegistry meterRegistry,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${outbox.backoff.initial-ms:1000}") long initialBackoffMillis,
+                            @Value("${outbox.backoff.max-ms:600000}") long maxBackoffMillis,
+                            @Value("${outbox.lease-ms:60000}") long leaseMillis) {
+        this.outboxClaimer = outboxClaimer;
+        this.outboxEventRepository = outboxEventRepository;
+        this.subscribers = subscribers;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.deliveryLag = Timer.builder("outbox.delivery.lag")
+                                .description("Time from outbox write to successful delivery")
+                                .register(meterRegistry);
+    }
+
+    // 구독자는 디스패처의 트랜잭션 밖에서 실행된다. 구독자가 DB를 쓰다 실패해도 다른 이벤트의 결과가 함께 롤백되지 않는다.
+    // 결과를 기록하기 전에 인스턴스가 죽으면 임대가 끝난 뒤 다시 전달된다.
+    public int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxClaimer.claim(now, now.plus(lease), batchSize);
+
+        List<Long> dispatchedIds = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            try {
+                deliver(OutboxMessage.of(event));
+                dispatchedIds.add(event.getId());
+                counter("outbox.events.dispatched", event).increment();
+                if (event.getCreatedTime() != null) {
+                    deliveryLag.record(Duration.between(event.getCreatedTime(), now));
+                }
+            } catch (RuntimeException e) {
+                int attempts = event.getAttempts() + 1;
+                Duration backoff = backoff(attempts);
+                outboxEventRepository.retryAt(event.getId(), now.plus(backoff));
+                counter("outbox.events.failed", event).increment();
+                log.warn("Outbox event {} ({}) failed on attempt {}, retrying in {}",
+                         event.getId(), event.getEventType(), attempts, backoff, e);
+            }
+        }
+
+        if (!dispatchedIds.isEmpty()) {
+            outboxEventRepository.markDispatched(dispatchedIds, now);
+        }
+        return events.size();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    Duration backoff(int attempts) {
+        // 2^(attempts-1)배로 늘리되 시프트 오버플로를 막기 위해 지수를 제한한다.
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private void deliver(OutboxMessage message) {
+        for (OutboxSubscriber subscriber : subscribers) {
+            if (subscriber.supports(message.eventType())) {
+                subscriber.handle(message);
+            }
+        }
+    }
+
+    private Counter counter(String name, OutboxEvent event) {
+        return Counter.builder(name)
+                      .tag("type", event.getEventType().name())
+                      .register(meterRegistry);
+    }
+}
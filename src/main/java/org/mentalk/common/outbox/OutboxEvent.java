@@ -0,0 +1,59 @@
+package org.mentalk.common.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.mentalk.common.domain.BaseTimeEntity;
+import org.mentalk.common.enums.OutboxEventType;
+
+@Entity
+@Getter
+@Table(indexes = {
+        @Index(name = "idx_outbox_event_pending", columnList = "dispatchedTime, availableTime, id")
+})
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq_generator")
+    @SequenceGenerator(name = "outbox_event_seq_generator", sequenceName = "outbox_event_seq",
+                       allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime availableTime;
+
+    private LocalDateTime dispatchedTime;
+
+    public void leaseUntil(LocalDateTime availableTime) {
+        this.availableTime = availableTime;
+    }
+}
@@ -0,0 +1,57 @@
+package org.mentalk.common.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // lock timeout -2는 Hibernate의 SKIP LOCKED로, MySQL 8에서 "FOR UPDATE SKIP LOCKED"가 된다.
+    // 여러 인스턴스의 디스패처가 서로 다른 행을 기다림 없이 나눠 가진다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select e
+            from OutboxEvent e
+            where e.dispatchedTime is null
+              and e.availableTime <= :now
+            order by e.id
+            """)
+    List<OutboxEvent> findDispatchable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("select min(e.createdTime) from OutboxEvent e where e.dispatchedTime is null")
+    Optional<LocalDateTime> findOldestPendingTime();
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.dispatchedTime = :dispatchedTime where e.id in :ids")
+    int markDispatched(@Param("ids") List<Long> ids,
+                       @Param("dispatchedTime") LocalDateTime dispatchedTime);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update OutboxEvent e
+            set e.attempts = e.attempts + 1,
+                e.availableTime = :availableTime
+            where e.id = :id
+            """)
+    int retryAt(@Param("id") Long id, @Param("availableTime") LocalDateTime availableTime);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.dispatchedTime < :before")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,16 @@
+package org.mentalk.common.outbox;
+
+import java.time.LocalDateTime;
+import org.mentalk.common.enums.OutboxEventType;
+
+public record OutboxMessage(Long id,
+                            OutboxEventType eventType,
+                            Long aggregateId,
+                            String payload,
+                            LocalDateTime createdTime) {
+
+    public static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getEventType(), event.getAggregateId(),
+                                 event.getPayload(), event.getCreatedTime());
+    }
+}
@@ -0,0 +1,38 @@
+package org.mentalk.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.mentalk.common.enums.OutboxEventType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    // 호출한 쪽의 트랜잭션과 함께 커밋돼야 이벤트가 유실되거나 유령 이벤트가 생기지 않는다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OutboxEventType eventType, Long aggregateId, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                                              .eventType(eventType)
+                                              .aggregateId(aggregateId)
+                                              .payload(serialize(payload))
+                                              .availableTime(LocalDateTime.now())
+                                              .build());
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unserializable outbox payload: "
+                                               + payload.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.mentalk.common.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 요청 스레드 밖에서 아웃박스를 비운다. 한 번의 실행에서 가득 찬 배치가 이어지면
+// maxBatchesPerRun까지 연달아 처리해 밀린 이벤트를 빠르게 따라잡는다.
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxDispatcher outboxDispatcher;
+    private final OutboxEventRepository outboxEventRepository;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxDispatcher outboxDispatcher,
+                       OutboxEventRepository outboxEventRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.max-batches-per-run:10}") int maxBatchesPerRun,
+                       @Value("${outbox.retention-hours:24}") long retentionHours) {
+        this.outboxDispatcher = outboxDispatcher;
+        this.outboxEventRepository = outboxEventRepository;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = Duration.ofHours(retentionHours);
+
+        TimeGauge.builder("outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                 .description("Age of the oldest undispatched outbox event")
+                 .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}")
+    public void relay() {
+        int batches = 0;
+        int dispatched;
+        do {
+            dispatched = outboxDispatcher.dispatchBatch();
+            batches++;
+        } while (dispatched == outboxDispatcher.getBatchSize() && batches < maxBatchesPerRun);
+
+        updateLag();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:3600000}")
+    public void deleteDispatched() {
+        int deleted = outboxEventRepository.deleteDispatchedBefore(
+                LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Deleted {} dispatched outbox events", deleted);
+        }
+    }
+
+    long getLagMillis() {
+        return lagMillis.get();
+    }
+
+    private void updateLag() {
+        LocalDateTime now = LocalDateTime.now();
+        lagMillis.set(outboxEventRepository.findOldestPendingTime()
+                                           .map(oldest -> Math.max(0, Duration.between(oldest, now)
+                                                                              .toMillis()))
+                                           .orElse(0L));
+    }
+}
@@ -0,0 +1,11 @@
+package org.mentalk.common.outbox;
+
+import org.mentalk.common.enums.OutboxEventType;
+
+// 전달은 최소 한 번이다. 같은 이벤트를 구독하는 다른 구독자가 실패하면 다시 전달되므로 멱등하게 처리해야 한다.
+public interface OutboxSubscriber {
+
+    boolean supports(OutboxEventType eventType);
+
+    void handle(OutboxMessage message);
+}
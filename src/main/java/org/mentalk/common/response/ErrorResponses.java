@@ -0,0 +1,72 @@
+package org.mentalk.common.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import org.mentalk.common.enums.ErrorCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+public final class ErrorResponses {
+
+    private static final String CONTENT_TYPE = "application/json; charset=UTF-8";
+    private static final MediaType MEDIA_TYPE = MediaType.parseMediaType(CONTENT_TYPE);
+    private static final Map<ErrorCode, byte[]> BODIES = render(new ObjectMapper());
+    private static final Map<ErrorCode, Counter> COUNTERS = counters();
+
+    private ErrorResponses() {
+    }
+
+    public static byte[] body(ErrorCode errorCode) {
+        return BODIES.get(errorCode);
+    }
+
+    public static void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = BODIES.get(errorCode);
+        COUNTERS.get(errorCode).increment();
+
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    public static ResponseEntity<byte[]> toResponseEntity(ErrorCode errorCode) {
+        COUNTERS.get(errorCode).increment();
+
+        return ResponseEntity.status(errorCode.getStatus())
+                             .contentType(MEDIA_TYPE)
+                             .body(BODIES.get(errorCode));
+    }
+
+    private static Map<ErrorCode, byte[]> render(ObjectMapper objectMapper) {
+        Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            try {
+                bodies.put(errorCode, objectMapper.writeValueAsBytes(
+                        ApiResponse.failure(errorCode.getCode(), errorCode.getMessage())));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return bodies;
+    }
+
+    private static Map<ErrorCode, Counter> counters() {
+        Map<ErrorCode, Counter> counters = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            counters.put(errorCode, Counter.builder("api.errors")
+                                           .description("Error responses by error code")
+                                           .tag("code", errorCode.getCode())
+                                           .tag("error", errorCode.name())
+                                           .tag("status", String.valueOf(errorCode.getStatus().value()))
+                                           .register(Metrics.globalRegistry));
+        }
+        return counters;
+    }
+}
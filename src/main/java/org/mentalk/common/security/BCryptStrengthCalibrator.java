@@ -0,0 +1,39 @@
+package org.mentalk.common.security;
+
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(long targetLatencyMillis) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(MIN_STRENGTH);
+        encoder.encode("calibration");
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        double baseMillis = Math.max(samples[SAMPLES / 2] / 1_000_000.0, 0.001);
+
+        // 강도가 1 오를 때마다 해시 시간이 두 배가 되므로 목표 지연 시간을 넘지 않는 최대 강도를 계산한다.
+        int extra = (int) Math.floor(Math.log(targetLatencyMillis / baseMillis) / Math.log(2));
+        int strength = Math.min(MAX_STRENGTH, Math.max(MIN_STRENGTH, MIN_STRENGTH + extra));
+
+        log.info("BCrypt strength {} selected (strength {} took {} ms, target {} ms)", strength,
+                 MIN_STRENGTH, String.format("%.1f", baseMillis), targetLatencyMillis);
+
+        return strength;
+    }
+}
@@ -0,0 +1,172 @@
+package org.mentalk.common.security;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.mentalk.common.enums.Role;
+
+// 고정 길이 토큰: version(1) | keyId(1) | memberId(8) | role(1) | iat(4) | exp(4) | HMAC-SHA256 앞 16바이트.
+// JSON 헤더와 클레임이 없어 쿠키가 47자로 줄고, 검증은 HMAC 한 번과 고정 위치 읽기로 끝난다.
+// role은 ordinal로 담으므로 Role 상수는 끝에만 추가해야 한다.
+public class BinaryTokenCodec implements TokenCodec {
+
+    private static final byte VERSION = 1;
+    private static final int PAYLOAD_LENGTH = 19;
+    private static final int MAC_LENGTH = 16;
+    private static final int TOKEN_LENGTH = PAYLOAD_LENGTH + MAC_LENGTH;
+    private static final int ENCODED_LENGTH = 47;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Role[] ROLES = Role.values();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final byte keyId;
+    private final SigningKey signingKey;
+    private final SigningKey[] keyring = new SigningKey[256];
+    private final Timer signTimer = Metrics.timer("jwt.sign", "codec", "binary");
+    private final Timer verifyTimer = Metrics.timer("jwt.verify", "codec", "binary");
+
+    public BinaryTokenCodec(String secretKey, int keyId) {
+        this(keyId, Map.of(keyId, secretKey));
+    }
+
+    // 발급은 keyId의 키로만 하고, 검증은 토큰에 적힌 키 id의 키로 한다.
+    // 키를 교체할 때 이전 키 id를 남겨 두면 이미 발급한 토큰이 만료될 때까지 유효하다.
+    public BinaryTokenCodec(int keyId, Map<Integer, String> secretKeys) {
+        secretKeys.keySet().forEach(BinaryTokenCodec::checkKeyId);
+        checkKeyId(keyId);
+        if (!secretKeys.containsKey(keyId)) {
+            throw new IllegalArgumentException("No secret for binary token key id: " + keyId);
+        }
+
+        secretKeys.forEach((id, secretKey) -> keyring[id] = SigningKey.of(secretKey));
+        this.keyId = (byte) keyId;
+        this.signingKey = keyring[keyId];
+    }
+
+    @Override
+    public boolean supports(String token) {
+        return token.indexOf('.') < 0;
+    }
+
+    @Override
+    public String encode(Long memberId, Role role, Instant issuedAt, Instant expiration) {
+        return signTimer.record(() -> {
+            byte[] bytes = ByteBuffer.allocate(TOKEN_LENGTH)
+                                     .put(VERSION)
+                                     .put(keyId)
+                                     .putLong(memberId)
+                                     .put((byte) role.ordinal())
+                                     .putInt((int) issuedAt.getEpochSecond())
+                                     .putInt((int) expiration.getEpochSecond())
+                                     .array();
+            System.arraycopy(signingKey.sign(bytes), 0, bytes, PAYLOAD_LENGTH, MAC_LENGTH);
+
+            return ENCODER.encodeToString(bytes);
+        });
+    }
+
+    @Override
+    public Optional<VerifiedToken> decode(String token) {
+        if (token.length() != ENCODED_LENGTH) {
+            return Optional.empty();
+        }
+
+        return verifyTimer.record(() -> verify(token));
+    }
+
+    private Optional<VerifiedToken> verify(String token) {
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (bytes.length != TOKEN_LENGTH || bytes[0] != VERSION) {
+            return Optional.empty();
+        }
+
+        SigningKey key = keyring[Byte.toUnsignedInt(bytes[1])];
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        byte[] signature = Arrays.copyOfRange(bytes, PAYLOAD_LENGTH, TOKEN_LENGTH);
+        if (!MessageDigest.isEqual(Arrays.copyOf(key.sign(bytes), MAC_LENGTH), signature)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, PAYLOAD_LENGTH - 2);
+        long memberId = buffer.getLong();
+        int roleOrdinal = Byte.toUnsignedInt(buffer.get());
+        Instant issuedAt = Instant.ofEpochSecond(Integer.toUnsignedLong(buffer.getInt()));
+        Instant expiration = Instant.ofEpochSecond(Integer.toUnsignedLong(buffer.getInt()));
+
+        if (roleOrdinal >= ROLES.length || !expiration.isAfter(Instant.now())) {
+            return Optional.empty();
+        }
+
+        // 서명이 토큰마다 다르므로 그대로 토큰 id(jti 대신)로 써서 개별 폐기에 사용한다.
+        return Optional.of(new VerifiedToken(new PrincipalDetails(memberId, ROLES[roleOrdinal]),
+                                             ENCODER.encodeToString(signature), issuedAt,
+                                             expiration));
+    }
+
+    private static void checkKeyId(int keyId) {
+        if (keyId < 0 || keyId > 255) {
+            throw new IllegalArgumentException("Binary token key id must fit in a byte: " + keyId);
+        }
+    }
+
+    private static byte[] deriveKey(byte[] secret) {
+        Mac mac = newMac(new SecretKeySpec(secret, ALGORITHM));
+        return mac.doFinal("mentalk-binary-access-token".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record SigningKey(SecretKeySpec key, Mac prototype) {
+
+        // JWS와 같은 비밀값을 쓰더라도 용도별 하위 키를 만들어 두 형식의 서명이 섞이지 않게 한다.
+        static SigningKey of(String secretKey) {
+            SecretKeySpec key = new SecretKeySpec(
+                    deriveKey(secretKey.getBytes(StandardCharsets.UTF_8)), ALGORITHM);
+            return new SigningKey(key, newMac(key));
+        }
+
+        // 서명 대상은 앞의 PAYLOAD_LENGTH 바이트뿐이다.
+        byte[] sign(byte[] bytes) {
+            Mac mac = copyMac();
+            mac.update(bytes, 0, PAYLOAD_LENGTH);
+            return mac.doFinal();
+        }
+
+        // Mac은 스레드 안전하지 않으므로 초기화된 원본을 복제해 쓴다. 매번 getInstance/init 하는 것보다 싸다.
+        private Mac copyMac() {
+            try {
+                return (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                return newMac(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.mentalk.common.security;
+
+public final class CookieHeaders {
+
+    private CookieHeaders() {
+    }
+
+    // Cookie 객체 배열을 만들지 않고 헤더 문자열에서 필요한 값 하나만 잘라낸다.
+    public static String find(String header, String name) {
+        if (header == null) {
+            return null;
+        }
+
+        int length = header.length();
+        int position = 0;
+        while (position < length) {
+            while (position < length && (header.charAt(position) == ' '
+                                         || header.charAt(position) == '\t')) {
+                position++;
+            }
+
+            int end = header.indexOf(';', position);
+            if (end < 0) {
+                end = length;
+            }
+
+            int valueStart = position + name.length() + 1;
+            if (valueStart <= end
+                && header.regionMatches(position, name, 0, name.length())
+                && header.charAt(position + name.length()) == '=') {
+                int valueEnd = end;
+                while (valueEnd > valueStart && header.charAt(valueEnd - 1) == ' ') {
+                    valueEnd--;
+                }
+                if (valueEnd - valueStart >= 2 && header.charAt(valueStart) == '"'
+                    && header.charAt(valueEnd - 1) == '"') {
+                    valueStart++;
+                    valueEnd--;
+                }
+                return header.substring(valueStart, valueEnd);
+            }
+
+            position = end + 1;
+        }
+        return null;
+    }
+}
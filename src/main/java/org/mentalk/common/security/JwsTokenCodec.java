@@ -0,0 +1,78 @@
+package org.mentalk.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.enums.Role;
+import org.mentalk.common.exception.ApiException;
+
+public class JwsTokenCodec implements TokenCodec {
+
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final Timer signTimer = Metrics.timer("jwt.sign", "codec", "jws");
+    private final Timer verifyTimer = Metrics.timer("jwt.verify", "codec", "jws");
+
+    public JwsTokenCodec(String secretKey) {
+        this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                             .setSigningKey(this.secretKey)
+                             .build();
+    }
+
+    @Override
+    public boolean supports(String token) {
+        return token.indexOf('.') >= 0;
+    }
+
+    @Override
+    public String encode(Long memberId, Role role, Instant issuedAt, Instant expiration) {
+        try {
+            Claims claims = Jwts.claims().setSubject(String.valueOf(memberId));
+            claims.put("role", role.name());
+
+            JwtBuilder builder = Jwts.builder()
+                                     .setClaims(claims)
+                                     .setId(UUID.randomUUID().toString())
+                                     .setIssuedAt(Date.from(issuedAt))
+                                     .setExpiration(Date.from(expiration))
+                                     .signWith(secretKey, SignatureAlgorithm.HS256);
+
+            return signTimer.record(builder::compact);
+        } catch (JwtException e) {
+            throw new ApiException(ErrorCode.JWT_CREATION_ERROR, e);
+        }
+    }
+
+    @Override
+    public Optional<VerifiedToken> decode(String token) {
+        try {
+            Claims claims = verifyTimer.record(() -> jwtParser.parseClaimsJws(token)
+                                                              .getBody());
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+
+            PrincipalDetails principal = new PrincipalDetails(
+                    Long.valueOf(claims.getSubject()), Role.valueOf(claims.get("role").toString()));
+            Instant issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+
+            return Optional.of(new VerifiedToken(principal, claims.getId(), issuedAt,
+                                                 claims.getExpiration().toInstant()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -2,12 +2,11 @@ package org.mentalk.common.security;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
-import org.mentalk.common.enums.Role;
+import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -19,7 +18,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private static final String TOKEN_COOKIE = "access_token";
+    private static final String AUTH_PATH_PREFIX = "/api/auth/";
+    private static final String AUTH_CHECK_PATH = "/api/auth/check";
+    private static final String SIGNUP_PATH = "/api/members";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -28,12 +33,9 @@ public class JwtFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (token != null && jwtUtil.validateToken(token)) {
-            Long id = jwtUtil.getId(token);
-            Role role = jwtUtil.getRole(token);
-
-            PrincipalDetails principal = new PrincipalDetails(id, role);
+        PrincipalDetails principal = token != null ? authenticate(token) : null;
 
+        if (principal != null) {
             Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null,
                                                                                     principal.getAuthorities());
 
@@ -43,14 +45,31 @@ public class JwtFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String resolveToken(HttpServletRequest request) {
-        if (request.getCookies() != null) {
-            for (Cookie cookie : request.getCookies()) {
-                if ("access_token".equals(cookie.getName())) {
-                    return cookie.getValue();
-                }
-            }
+    // permitAll 경로 중 인증 정보를 사용하지 않는 경로는 토큰 검증을 건너뛴다.
+    // /api/auth/check 는 인증 정보를 읽으므로 제외한다.
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        int offset = request.getContextPath().length();
+
+        if (uri.startsWith(AUTH_PATH_PREFIX, offset)) {
+            return !(uri.length() - offset == AUTH_CHECK_PATH.length()
+                     && uri.startsWith(AUTH_CHECK_PATH, offset));
         }
-        return null;
+
+        return "POST".equals(request.getMethod())
+               && uri.length() - offset == SIGNUP_PATH.length()
+               && uri.startsWith(SIGNUP_PATH, offset);
+    }
+
+    private PrincipalDetails authenticate(String token) {
+        return verifiedTokenCache.getVerifiedToken(token)
+                                 .filter(verified -> !tokenRevocationList.isRevoked(verified))
+                                 .map(VerifiedToken::principal)
+                                 .orElse(null);
+    }
+
+    private String resolveToken(HttpServletRequest request) {
+        return CookieHeaders.find(request.getHeader(HttpHeaders.COOKIE), TOKEN_COOKIE);
     }
 }
@@ -1,69 +1,84 @@
 package org.mentalk.common.security;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import java.time.ZonedDateTime;
-import java.util.Date;
-import javax.crypto.SecretKey;
-import org.mentalk.common.enums.ErrorCode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.mentalk.common.enums.Role;
-import org.mentalk.common.exception.ApiException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
+// 발급은 jwt.codec으로 고른 코덱 하나로 하고, 검증은 모든 코덱을 받아 전환 중에도 기존 토큰이 유효하다.
 @Component
 public class JwtUtil {
 
-    private final SecretKey secretKey;
     private final int expMinutes = 1440;
+    private final TokenCodec issuingCodec;
+    private final List<TokenCodec> codecs;
 
-    public JwtUtil(@Value("${jwt.secret-key}") String secretKey) {
-        this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+    // jwt.binary.keys에는 교체 전후의 다른 키 id와 비밀값을 둔다(예: jwt.binary.keys.1=이전 비밀값).
+    // 발급하는 키 id(jwt.binary.key-id)의 비밀값은 항상 jwt.secret-key다.
+    @Autowired
+    public JwtUtil(@Value("${jwt.secret-key}") String secretKey,
+                   @Value("${jwt.codec:jws}") String codec,
+                   @Value("${jwt.binary.key-id:1}") int binaryKeyId,
+                   Environment environment) {
+        this(secretKey, codec, binaryKeyId,
+             Binder.get(environment)
+                   .bind("jwt.binary.keys", Bindable.mapOf(Integer.class, String.class))
+                   .orElse(Map.of()));
     }
 
-    public String createToken(Long id, Role role) {
-        try {
-            Claims claims = Jwts.claims().setSubject(String.valueOf(id));
-            claims.put("role", role.name());
+    public JwtUtil(String secretKey, String codec, int binaryKeyId) {
+        this(secretKey, codec, binaryKeyId, Map.of());
+    }
 
-            return Jwts.builder()
-                       .setClaims(claims)
-                       .setIssuedAt(Date.from(ZonedDateTime.now().toInstant()))
-                       .setExpiration(Date.from(ZonedDateTime.now()
-                                                             .plusMinutes(expMinutes)
-                                                             .toInstant()))
-                       .signWith(secretKey, SignatureAlgorithm.HS256)
-                       .compact();
-        } catch (JwtException e) {
-            throw new ApiException(ErrorCode.JWT_CREATION_ERROR);
-        }
+    public JwtUtil(String secretKey, String codec, int binaryKeyId,
+                   Map<Integer, String> binaryKeys) {
+        Map<Integer, String> binaryKeyring = new HashMap<>(binaryKeys);
+        binaryKeyring.put(binaryKeyId, secretKey);
+
+        TokenCodec jws = new JwsTokenCodec(secretKey);
+        TokenCodec binary = new BinaryTokenCodec(binaryKeyId, binaryKeyring);
+
+        this.codecs = List.of(jws, binary);
+        this.issuingCodec = switch (codec) {
+            case "jws" -> jws;
+            case "binary" -> binary;
+            default -> throw new IllegalArgumentException("Unknown jwt.codec: " + codec);
+        };
     }
 
-    public boolean validateToken(String token) {
-        try {
-            getClaims(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
-        }
+    public JwtUtil(String secretKey) {
+        this(secretKey, "jws", 1);
     }
 
-    public Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                   .setSigningKey(secretKey)
-                   .build()
-                   .parseClaimsJws(token)
-                   .getBody();
+    public String createToken(Long id, Role role) {
+        Instant issuedAt = Instant.now();
+
+        return issuingCodec.encode(id, role, issuedAt, issuedAt.plus(getTokenTtl()));
+    }
+
+    public Duration getTokenTtl() {
+        return Duration.ofMinutes(expMinutes);
     }
 
-    public Long getId(String token) {
-        return Long.valueOf(getClaims(token).getSubject());
+    public Optional<VerifiedToken> verify(String token) {
+        for (TokenCodec codec : codecs) {
+            if (codec.supports(token)) {
+                return codec.decode(token);
+            }
+        }
+        return Optional.empty();
     }
 
-    public Role getRole(String token) {
-        return Role.valueOf(getClaims(token).get("role").toString());
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 }
@@ -0,0 +1,113 @@
+package org.mentalk.common.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.exception.ApiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${password.hash.pool-size:0}") int poolSize,
+                          @Value("${password.hash.queue-capacity:64}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(queueCapacity),
+                                               new HasherThreadFactory(),
+                                               new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("password.hash")
+                                .description("Time spent hashing or verifying a password")
+                                .tag("operation", "encode")
+                                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash")
+                                 .description("Time spent hashing or verifying a password")
+                                 .tag("operation", "matches")
+                                 .register(meterRegistry);
+
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size())
+             .description("Password hash tasks waiting for a thread")
+             .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+             .description("Password hash tasks currently running")
+             .register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String hashedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, hashedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String hashedPassword) {
+        return await(matchesAsync(rawPassword, hashedPassword));
+    }
+
+    public boolean needsUpgrade(String hashedPassword) {
+        return passwordEncoder.upgradeEncoding(hashedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(task), executor);
+        } catch (RejectedExecutionException e) {
+            throw new ApiException(ErrorCode.PASSWORD_HASH_UNAVAILABLE);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static class HasherThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
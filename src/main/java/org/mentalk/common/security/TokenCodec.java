@@ -0,0 +1,16 @@
+package org.mentalk.common.security;
+
+import java.time.Instant;
+import java.util.Optional;
+import org.mentalk.common.enums.Role;
+
+public interface TokenCodec {
+
+    // 서명 검증 없이 토큰 모양만 보고 이 코덱의 형식인지 판단한다.
+    boolean supports(String token);
+
+    String encode(Long memberId, Role role, Instant issuedAt, Instant expiration);
+
+    // 형식이나 서명이 맞지 않거나 만료된 토큰이면 빈 값을 돌려준다.
+    Optional<VerifiedToken> decode(String token);
+}
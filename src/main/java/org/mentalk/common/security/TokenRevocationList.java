@@ -0,0 +1,97 @@
+package org.mentalk.common.security;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// 폐기된 토큰을 메모리에만 두어 매 요청의 확인이 DB에 닿지 않게 한다.
+// 항목은 원래 토큰이 만료되는 시점까지만 의미가 있으므로 만료 순서로 정리한다.
+@Component
+public class TokenRevocationList {
+
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, Instant> revokedBefore = new ConcurrentHashMap<>();
+    private final PriorityBlockingQueue<Revocation> expirations = new PriorityBlockingQueue<>(
+            64, Comparator.comparing(Revocation::expiresAt));
+    private final Clock clock;
+
+    @Autowired
+    public TokenRevocationList() {
+        this(Clock.systemUTC());
+    }
+
+    TokenRevocationList(Clock clock) {
+        this.clock = clock;
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.tokenId() != null && revokedTokens.containsKey(token.tokenId())) {
+            return true;
+        }
+
+        Instant cutoff = revokedBefore.get(token.principal().id());
+        return cutoff != null && (token.issuedAt() == null || token.issuedAt().isBefore(cutoff));
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (!expiresAt.isAfter(clock.instant())) {
+            return;
+        }
+
+        if (revokedTokens.putIfAbsent(tokenId, expiresAt) == null) {
+            expirations.add(new Revocation(tokenId, null, null, expiresAt));
+        }
+    }
+
+    // issuedBefore 이전에 발급된 회원의 모든 토큰을 폐기한다. expiresAt은 그중 가장 늦게 만료되는 시점이다.
+    public void revokeAllBefore(Long memberId, Instant issuedBefore, Instant expiresAt) {
+        if (!expiresAt.isAfter(clock.instant())) {
+            return;
+        }
+
+        Instant current = revokedBefore.putIfAbsent(memberId, issuedBefore);
+        while (current != null) {
+            if (!issuedBefore.isAfter(current)) {
+                return;
+            }
+            if (revokedBefore.replace(memberId, current, issuedBefore)) {
+                break;
+            }
+            current = revokedBefore.putIfAbsent(memberId, issuedBefore);
+        }
+
+        expirations.add(new Revocation(null, memberId, issuedBefore, expiresAt));
+    }
+
+    public synchronized int prune() {
+        Instant now = clock.instant();
+        int pruned = 0;
+
+        Revocation head;
+        while ((head = expirations.peek()) != null && !head.expiresAt().isAfter(now)) {
+            // 동시에 추가된 항목이 더 앞설 수 있으므로 꺼낸 항목을 기준으로 지운다.
+            Revocation expired = expirations.poll();
+            if (expired.tokenId() != null) {
+                revokedTokens.remove(expired.tokenId(), expired.expiresAt());
+            } else {
+                revokedBefore.remove(expired.memberId(), expired.issuedBefore());
+            }
+            pruned++;
+        }
+
+        return pruned;
+    }
+
+    public int size() {
+        return revokedTokens.size() + revokedBefore.size();
+    }
+
+    private record Revocation(String tokenId, Long memberId, Instant issuedBefore,
+                              Instant expiresAt) {
+    }
+}
@@ -0,0 +1,9 @@
+package org.mentalk.common.security;
+
+import java.time.Instant;
+
+public record VerifiedToken(PrincipalDetails principal,
+                            String tokenId,
+                            Instant issuedAt,
+                            Instant expiration) {
+}
@@ -0,0 +1,89 @@
+package org.mentalk.common.sync;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+// 기준 시각은 조회를 시작하기 전에 잡아, 조회 도중 커밋된 행을 다음 회차에서 놓치지 않게 한다.
+public class CreatedTimePoller<T> {
+
+    private final Duration lookback;
+    private final int batchSize;
+    private final CreatedSinceQuery<T> query;
+    private final ToLongFunction<T> idOf;
+    private final Consumer<T> apply;
+    private volatile LocalDateTime syncedTime;
+
+    CreatedTimePoller(Duration lookback, int batchSize, CreatedSinceQuery<T> query,
+                      ToLongFunction<T> idOf, Consumer<T> apply) {
+        this.lookback = lookback;
+        this.batchSize = batchSize;
+        this.query = query;
+        this.idOf = idOf;
+        this.apply = apply;
+    }
+
+    // 전체를 읽어 반영하고, 읽기 시작한 시각부터 동기화한다.
+    public int load(BatchQuery<T> loadQuery) {
+        LocalDateTime startedTime = LocalDateTime.now();
+        int loaded = readInBatches(loadQuery);
+        syncedTime = startedTime;
+        return loaded;
+    }
+
+    // load나 markSynced로 기준 시각이 정해지기 전에는 아무것도 읽지 않는다.
+    public int poll() {
+        LocalDateTime synced = syncedTime;
+        if (synced == null) {
+            return 0;
+        }
+
+        LocalDateTime startedTime = LocalDateTime.now();
+        LocalDateTime since = synced.minus(lookback);
+        int polled = readInBatches((afterId, pageable) -> query.find(since, afterId, pageable));
+        syncedTime = startedTime;
+        return polled;
+    }
+
+    public void markSynced(LocalDateTime time) {
+        syncedTime = time;
+    }
+
+    public LocalDateTime getSyncedTime() {
+        return syncedTime;
+    }
+
+    private int readInBatches(BatchQuery<T> batchQuery) {
+        int read = 0;
+        long afterId = 0;
+
+        List<T> batch;
+        do {
+            batch = batchQuery.find(afterId, PageRequest.ofSize(batchSize));
+            batch.forEach(apply);
+
+            read += batch.size();
+            if (!batch.isEmpty()) {
+                afterId = idOf.applyAsLong(batch.get(batch.size() - 1));
+            }
+        } while (batch.size() == batchSize);
+
+        return read;
+    }
+
+    @FunctionalInterface
+    public interface BatchQuery<T> {
+
+        List<T> find(long afterId, Pageable pageable);
+    }
+
+    @FunctionalInterface
+    public interface CreatedSinceQuery<T> {
+
+        List<T> find(LocalDateTime since, long afterId, Pageable pageable);
+    }
+}
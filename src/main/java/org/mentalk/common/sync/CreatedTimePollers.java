@@ -0,0 +1,28 @@
+package org.mentalk.common.sync;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import org.mentalk.common.sync.CreatedTimePoller.CreatedSinceQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 인스턴스마다 메모리에 두는 상태(토큰 폐기 목록, 존재 필터, 검색 색인, 공개 구간 인덱스)를 DB와 맞추는 폴러를 만든다.
+// id는 커밋 순서를 따르지 않으므로(인스턴스마다 시퀀스 블록을 따로 받는다) 다른 인스턴스가 쓴 행은 생성 시각으로 찾는다.
+// 커밋은 생성 시각보다 늦게 보이고 인스턴스 간 시계도 어긋나므로 마지막 동기화 시각보다 lookback만큼 앞에서부터 겹쳐 읽는다.
+// lookback은 데이터 종류가 아니라 가장 긴 쓰기 트랜잭션과 시계 차이로 정해지므로 모든 폴러가 같은 값을 쓴다.
+// 겹쳐 읽은 행은 다시 반영되므로 반영 함수는 멱등해야 한다.
+@Component
+public class CreatedTimePollers {
+
+    private final Duration lookback;
+
+    public CreatedTimePollers(@Value("${sync.lookback-seconds:60}") long lookbackSeconds) {
+        this.lookback = Duration.ofSeconds(lookbackSeconds);
+    }
+
+    public <T> CreatedTimePoller<T> create(int batchSize, CreatedSinceQuery<T> query,
+                                           ToLongFunction<T> idOf, Consumer<T> apply) {
+        return new CreatedTimePoller<>(lookback, batchSize, query, idOf, apply);
+    }
+}
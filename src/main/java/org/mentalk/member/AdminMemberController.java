@@ -0,0 +1,35 @@
+package org.mentalk.member;
+
+import lombok.RequiredArgsConstructor;
+import org.mentalk.common.export.ExportFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/members")
+@RequiredArgsConstructor
+public class AdminMemberController {
+
+    private final MemberExportService memberExportService;
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        return ResponseEntity.ok()
+                             .contentType(exportFormat.getMediaType())
+                             .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                     .filename("members." + exportFormat.getExtension())
+                                     .build()
+                                     .toString())
+                             .body(outputStream -> memberExportService.export(exportFormat,
+                                                                              outputStream));
+    }
+}
@@ -0,0 +1,35 @@
+package org.mentalk.member;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.mentalk.common.export.ExportFormat;
+import org.mentalk.common.export.ExportQueries;
+import org.mentalk.common.export.ExportWriter;
+import org.mentalk.member.dto.MemberExportDto;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class MemberExportService {
+
+    static final String EXPORT_QUERY = """
+            select new org.mentalk.member.dto.MemberExportDto(
+                m.id, m.name, m.phoneNumber, m.role, a.email, m.createdTime)
+            from Member m
+            left join LocalAccount a on a.member = m
+            order by m.id
+            """;
+
+    private final ExportQueries exportQueries;
+    private final ExportWriter exportWriter;
+
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<MemberExportDto> rows = exportQueries.stream(EXPORT_QUERY, MemberExportDto.class)) {
+            return exportWriter.write(rows, format, MemberExportDto.HEADER, outputStream);
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package org.mentalk.member;
 
+import java.time.Instant;
 import lombok.RequiredArgsConstructor;
-import org.mentalk.auth.LocalAccountService;
+import org.mentalk.auth.TokenRevocationService;
 import org.mentalk.auth.dto.JwtDto;
-import org.mentalk.auth.dto.LocalAccountDto;
+import org.mentalk.common.datasource.ReadYourWrites;
 import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.enums.OutboxEventType;
 import org.mentalk.common.enums.Role;
 import org.mentalk.common.exception.ApiException;
+import org.mentalk.common.outbox.OutboxPublisher;
 import org.mentalk.common.security.JwtUtil;
+import org.mentalk.common.security.PasswordHasher;
 import org.mentalk.member.domain.Member;
-import org.mentalk.member.dto.MemberDto;
+import org.mentalk.member.dto.MemberEventPayload;
 import org.mentalk.member.dto.SignupDto;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,21 +23,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final LocalAccountService localAccountService;
+    private final SignupWriter signupWriter;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final OutboxPublisher outboxPublisher;
+    private final ReadYourWrites readYourWrites;
 
-    @Transactional
+    // 해시는 수백 ms가 걸리므로 트랜잭션(커넥션)을 잡기 전에 끝낸다.
     public void signup(SignupDto signupDto) {
-        Member member = memberRepository.findByPhoneNumber(signupDto.phoneNumber())
-                                        .orElseGet(() -> {
-                                            MemberDto memberDto = MemberDto.of(signupDto.name(),
-                                                                               signupDto.phoneNumber());
-                                            return memberRepository.save(memberDto.toEntity());
-                                        });
-
-        LocalAccountDto localAccountDto = LocalAccountDto.of(member, signupDto.email(),
-                                                             signupDto.password());
-        localAccountService.createLocalAccount(localAccountDto);
+        String hashedPassword = passwordHasher.encode(signupDto.password());
+
+        signupWriter.write(signupDto, hashedPassword);
     }
 
     @Transactional
@@ -42,6 +43,11 @@ public class MemberService {
                                         .orElseThrow(() -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
         member.changeRole(Role.MENTOR);
         memberRepository.save(member);
+        // 이전 역할이 담긴 토큰은 만료 전까지 유효하므로 모두 폐기한다.
+        tokenRevocationService.revokeAllBefore(member.getId(), Instant.now());
+        outboxPublisher.publish(OutboxEventType.MEMBER_BECAME_MENTOR, member.getId(),
+                                MemberEventPayload.of(member));
+        readYourWrites.pin(ReadYourWrites.memberKey(member.getId()));
 
         String token = jwtUtil.createToken(member.getId(), member.getRole());
 
@@ -0,0 +1,52 @@
+package org.mentalk.member;
+
+import lombok.RequiredArgsConstructor;
+import org.mentalk.auth.EmailExistenceFilter;
+import org.mentalk.auth.LocalAccountRepository;
+import org.mentalk.auth.dto.LocalAccountDto;
+import org.mentalk.common.datasource.ReadYourWrites;
+import org.mentalk.common.enums.OutboxEventType;
+import org.mentalk.common.outbox.OutboxPublisher;
+import org.mentalk.member.domain.Member;
+import org.mentalk.member.dto.MemberDto;
+import org.mentalk.member.dto.MemberEventPayload;
+import org.mentalk.member.dto.SignupDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 회원가입의 DB 쓰기만 담당한다. 중복 검사는 유니크 제약에 맡기고,
+// 위반은 ConstraintViolations가 에러 코드로 바꾼다.
+@Component
+@RequiredArgsConstructor
+public class SignupWriter {
+
+    private final MemberRepository memberRepository;
+    private final LocalAccountRepository localAccountRepository;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final OutboxPublisher outboxPublisher;
+    private final ReadYourWrites readYourWrites;
+
+    @Transactional
+    public void write(SignupDto signupDto, String hashedPassword) {
+        Member member = memberRepository.findByPhoneNumber(signupDto.phoneNumber()).orElse(null);
+
+        boolean newMember = member == null;
+        if (newMember) {
+            member = memberRepository.save(
+                    MemberDto.of(signupDto.name(), signupDto.phoneNumber()).toEntity());
+        }
+
+        outboxPublisher.publish(OutboxEventType.MEMBER_SIGNED_UP, member.getId(),
+                                MemberEventPayload.of(member));
+
+        // 시퀀스 id라 save는 INSERT를 미루므로 회원, 아웃박스 이벤트, 계정이 한 번의 flush로 함께 나간다.
+        LocalAccountDto localAccountDto = LocalAccountDto.of(member, signupDto.email(),
+                                                             signupDto.password());
+        localAccountRepository.saveAndFlush(localAccountDto.toEntity(hashedPassword));
+        readYourWrites.pin(ReadYourWrites.memberKey(member.getId()),
+                           ReadYourWrites.emailKey(signupDto.email()),
+                           ReadYourWrites.phoneNumberKey(signupDto.phoneNumber()));
+
+        emailExistenceFilter.add(signupDto.email());
+    }
+}
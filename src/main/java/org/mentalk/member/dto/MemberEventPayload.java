@@ -0,0 +1,12 @@
+package org.mentalk.member.dto;
+
+import org.mentalk.common.enums.Role;
+import org.mentalk.member.domain.Member;
+
+public record MemberEventPayload(Long memberId,
+                                 Role role) {
+
+    public static MemberEventPayload of(Member member) {
+        return new MemberEventPayload(member.getId(), member.getRole());
+    }
+}
@@ -0,0 +1,23 @@
+package org.mentalk.member.dto;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.mentalk.common.enums.Role;
+import org.mentalk.common.export.ExportRow;
+
+public record MemberExportDto(Long id,
+                              String name,
+                              String phoneNumber,
+                              Role role,
+                              String email,
+                              LocalDateTime createdTime) implements ExportRow {
+
+    public static final List<String> HEADER = List.of("id", "name", "phoneNumber", "role", "email",
+                                                      "createdTime");
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, name, phoneNumber, role, email, createdTime);
+    }
+}
@@ -0,0 +1,59 @@
+package org.mentalk.session;
+
+import java.lang.Character.UnicodeScript;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                                      .toLowerCase(Locale.ROOT);
+
+        int start = -1;
+        boolean ngramWord = false;
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            boolean wordChar = Character.isLetterOrDigit(c);
+            boolean ngramChar = wordChar && isNGramScript(c);
+
+            if (start >= 0 && (!wordChar || ngramChar != ngramWord)) {
+                addWord(tokens, normalized.substring(start, i), ngramWord);
+                start = -1;
+            }
+            if (start < 0 && wordChar) {
+                start = i;
+                ngramWord = ngramChar;
+            }
+        }
+
+        return tokens;
+    }
+
+    private static void addWord(List<String> tokens, String word, boolean ngramWord) {
+        if (!ngramWord || word.length() == 1) {
+            tokens.add(word);
+            return;
+        }
+
+        // 한글, 한자는 형태소 분석 대신 바이그램으로 색인해 조사가 붙은 단어도 검색되게 한다.
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isNGramScript(char c) {
+        UnicodeScript script = UnicodeScript.of(c);
+        return script == UnicodeScript.HANGUL || script == UnicodeScript.HAN;
+    }
+}
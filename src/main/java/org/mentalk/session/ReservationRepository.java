@@ -0,0 +1,21 @@
+package org.mentalk.session;
+
+import java.util.Optional;
+import org.mentalk.session.domain.Reservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+    @Query("""
+            select r.id
+            from Reservation r
+            where r.session.id = :sessionId
+              and r.member.id = :memberId
+            """)
+    Optional<Long> findIdBySessionIdAndMemberId(@Param("sessionId") Long sessionId,
+                                                @Param("memberId") Long memberId);
+}
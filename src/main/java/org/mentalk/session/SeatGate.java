@@ -0,0 +1,55 @@
+package org.mentalk.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 세션별 남은 좌석 수를 메모리에서 먼저 차감해 좌석이 없는 요청은 DB에 닿기 전에 거절한다.
+// 초과 판매는 SessionRepository#incrementReservedCount 의 조건부 UPDATE가 막는다.
+// 카운터는 인스턴스마다 따로 있으므로 ttl마다 DB 값으로 다시 읽는다.
+@Component
+public class SeatGate {
+
+    private final Cache<Long, AtomicInteger> remainingSeats;
+
+    public SeatGate(@Value("${session.reservation.gate.maximum-size:10000}") long maximumSize,
+                    @Value("${session.reservation.gate.ttl-seconds:30}") long ttlSeconds) {
+        this.remainingSeats = Caffeine.newBuilder()
+                                      .maximumSize(maximumSize)
+                                      .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                                      .build();
+    }
+
+    public boolean tryAcquire(Long sessionId, Function<Long, Integer> loader) {
+        AtomicInteger remaining = remainingSeats.get(sessionId,
+                                                     id -> new AtomicInteger(loader.apply(id)));
+
+        int current;
+        do {
+            current = remaining.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!remaining.compareAndSet(current, current - 1));
+
+        return true;
+    }
+
+    public void release(Long sessionId) {
+        AtomicInteger remaining = remainingSeats.getIfPresent(sessionId);
+        if (remaining != null) {
+            remaining.incrementAndGet();
+        }
+    }
+
+    public void close(Long sessionId) {
+        AtomicInteger remaining = remainingSeats.getIfPresent(sessionId);
+        if (remaining != null) {
+            remaining.set(0);
+        }
+    }
+}
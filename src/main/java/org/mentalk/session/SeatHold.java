@@ -0,0 +1,50 @@
+package org.mentalk.session;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 게이트에서 가져온 좌석 하나. 돌려주기, 닫기, 커밋 확정 중 처음 한 번만 반영되므로
+// 예외 경로마다 release()를 불러도 좌석이 두 번 돌아가지 않는다.
+public class SeatHold {
+
+    private final SeatGate seatGate;
+    private final Long sessionId;
+    private final AtomicBoolean settled = new AtomicBoolean();
+
+    SeatHold(SeatGate seatGate, Long sessionId) {
+        this.seatGate = seatGate;
+        this.sessionId = sessionId;
+    }
+
+    public void release() {
+        if (settled.compareAndSet(false, true)) {
+            seatGate.release(sessionId);
+        }
+    }
+
+    public void close() {
+        if (settled.compareAndSet(false, true)) {
+            seatGate.close(sessionId);
+        }
+    }
+
+    // 좌석을 차지한 트랜잭션이 커밋되면 그대로 두고, 롤백되면 돌려준다.
+    public void releaseUnlessCommitted() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            settled.set(true);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    settled.set(true);
+                } else {
+                    release();
+                }
+            }
+        });
+    }
+}
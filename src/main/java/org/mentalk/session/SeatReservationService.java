@@ -0,0 +1,54 @@
+package org.mentalk.session;
+
+import lombok.RequiredArgsConstructor;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.exception.ApiException;
+import org.mentalk.common.exception.ConstraintViolations;
+import org.mentalk.session.dto.ReservationDto;
+import org.mentalk.session.dto.ReservationIdDto;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class SeatReservationService {
+
+    private final SessionRepository sessionRepository;
+    private final SeatReservationWriter seatReservationWriter;
+    private final SeatGate seatGate;
+
+    // 좌석이 없으면 트랜잭션(커넥션)을 잡거나 DB를 조회하기 전에 거절한다.
+    // 그래서 매진된 세션에서는 이미 예약한 회원의 재시도도 SESSION_FULL을 받는다.
+    public ReservationIdDto reserve(ReservationDto reservationDto) {
+        Long sessionId = reservationDto.sessionId();
+
+        if (!seatGate.tryAcquire(sessionId, this::loadRemainingSeats)) {
+            throw new ApiException(ErrorCode.SESSION_FULL);
+        }
+
+        SeatHold seatHold = new SeatHold(seatGate, sessionId);
+        try {
+            return seatReservationWriter.write(reservationDto, seatHold);
+        } catch (DataIntegrityViolationException e) {
+            seatHold.release();
+            if (ConstraintViolations.toErrorCode(e) != ErrorCode.ALREADY_RESERVED) {
+                throw e;
+            }
+
+            // 같은 회원의 동시 요청이 먼저 커밋했다. 이 트랜잭션은 롤백됐으므로 새로 조회해 그 예약을 돌려준다.
+            return seatReservationWriter.findReservedId(sessionId, reservationDto.memberId())
+                                        .map(ReservationIdDto::of)
+                                        .orElseThrow(() -> new ApiException(
+                                                ErrorCode.ALREADY_RESERVED));
+        } catch (RuntimeException e) {
+            // 트랜잭션 시작이나 멱등 조회처럼 쓰기가 좌석을 넘겨받기 전에 실패하면 여기서 돌려준다.
+            seatHold.release();
+            throw e;
+        }
+    }
+
+    private Integer loadRemainingSeats(Long sessionId) {
+        return sessionRepository.findRemainingSeats(sessionId)
+                                .orElseThrow(() -> new ApiException(ErrorCode.SESSION_NOT_FOUND));
+    }
+}
@@ -0,0 +1,55 @@
+package org.mentalk.session;
+
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.exception.ApiException;
+import org.mentalk.member.MemberRepository;
+import org.mentalk.session.domain.Reservation;
+import org.mentalk.session.dto.ReservationDto;
+import org.mentalk.session.dto.ReservationIdDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 좌석 예약의 DB 쓰기만 담당한다. 게이트에서 좌석 하나를 가져온 뒤에 호출되며,
+// 좌석을 차지해 커밋하지 못하면 그 좌석을 게이트에 돌려준다.
+@Component
+@RequiredArgsConstructor
+public class SeatReservationWriter {
+
+    private final SessionRepository sessionRepository;
+    private final MemberRepository memberRepository;
+    private final ReservationRepository reservationRepository;
+
+    @Transactional
+    public ReservationIdDto write(ReservationDto reservationDto, SeatHold seatHold) {
+        Long sessionId = reservationDto.sessionId();
+        Long memberId = reservationDto.memberId();
+
+        // (세션, 회원)이 멱등 키다. 재시도는 좌석을 더 차지하지 않고 기존 예약을 돌려준다.
+        Optional<Long> reservedId = reservationRepository.findIdBySessionIdAndMemberId(sessionId,
+                                                                                       memberId);
+        if (reservedId.isPresent()) {
+            seatHold.release();
+            return ReservationIdDto.of(reservedId.get());
+        }
+
+        if (sessionRepository.incrementReservedCount(sessionId) == 0) {
+            seatHold.close();
+            throw new ApiException(ErrorCode.SESSION_FULL);
+        }
+        seatHold.releaseUnlessCommitted();
+
+        Reservation reservation = reservationRepository.saveAndFlush(
+                reservationDto.toEntity(sessionRepository.getReferenceById(sessionId),
+                                        memberRepository.getReferenceById(memberId)));
+
+        return ReservationIdDto.of(reservation.getId());
+    }
+
+    // 방금 다른 요청이 커밋한 예약이라 레플리카에는 아직 없을 수 있으므로 읽기 전용으로 표시하지 않는다.
+    @Transactional
+    public Optional<Long> findReservedId(Long sessionId, Long memberId) {
+        return reservationRepository.findIdBySessionIdAndMemberId(sessionId, memberId);
+    }
+}
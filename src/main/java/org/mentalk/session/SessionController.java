@@ -1,18 +1,38 @@
 package org.mentalk.session;
 
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.mentalk.common.export.ExportFormat;
 import org.mentalk.common.response.ApiResponse;
 import org.mentalk.common.security.PrincipalDetails;
+import org.mentalk.session.dto.ReservationDto;
+import org.mentalk.session.dto.ReservationIdDto;
+import org.mentalk.session.dto.SessionBulkDto;
+import org.mentalk.session.dto.SessionDetailDto;
 import org.mentalk.session.dto.SessionDto;
+import org.mentalk.session.dto.SessionFeedDto;
+import org.mentalk.session.dto.SessionFeedQueryDto;
 import org.mentalk.session.dto.SessionIdDto;
+import org.mentalk.session.dto.SessionIdsDto;
+import org.mentalk.session.dto.SessionSearchResultDto;
+import org.mentalk.session.request.SessionBulkCreateRequest;
 import org.mentalk.session.request.SessionCreateRequest;
+import org.mentalk.session.request.SessionFeedRequest;
+import org.mentalk.session.request.SessionSearchRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/sessions")
@@ -20,6 +40,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class SessionController {
 
     private final SessionService sessionService;
+    private final SeatReservationService seatReservationService;
+    private final SessionExportService sessionExportService;
 
     @PostMapping
     public ResponseEntity<ApiResponse> createSession(
@@ -32,4 +54,68 @@ public class SessionController {
 
         return ResponseEntity.ok().body(ApiResponse.success(sessionIdDto));
     }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse> createSessions(
+            @RequestBody @Valid SessionBulkCreateRequest request,
+            @AuthenticationPrincipal PrincipalDetails principal) {
+
+        SessionBulkDto sessionBulkDto = SessionBulkDto.of(request, principal.id());
+
+        SessionIdsDto sessionIdsDto = sessionService.createSessions(sessionBulkDto);
+
+        return ResponseEntity.ok().body(ApiResponse.success(sessionIdsDto));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse> getSessionFeed(@ModelAttribute @Valid SessionFeedRequest request) {
+        SessionFeedQueryDto queryDto = SessionFeedQueryDto.of(request);
+
+        SessionFeedDto sessionFeedDto = sessionService.getSessionFeed(queryDto);
+
+        return ResponseEntity.ok().body(ApiResponse.success(sessionFeedDto));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse> searchSessions(@ModelAttribute @Valid SessionSearchRequest request) {
+        int size = request.size() != null ? request.size() : 20;
+
+        List<SessionSearchResultDto> results = sessionService.searchSessions(request.query(), size);
+
+        return ResponseEntity.ok().body(ApiResponse.success(results));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSessions(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        return ResponseEntity.ok()
+                             .contentType(exportFormat.getMediaType())
+                             .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                     .filename("sessions." + exportFormat.getExtension())
+                                     .build()
+                                     .toString())
+                             .body(outputStream -> sessionExportService.export(exportFormat,
+                                                                               outputStream));
+    }
+
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<ApiResponse> getSession(@PathVariable Long sessionId) {
+        SessionDetailDto sessionDetailDto = sessionService.getSession(sessionId);
+
+        return ResponseEntity.ok().body(ApiResponse.success(sessionDetailDto));
+    }
+
+    @PostMapping("/{sessionId}/reservations")
+    public ResponseEntity<ApiResponse> reserveSeat(
+            @PathVariable Long sessionId,
+            @AuthenticationPrincipal PrincipalDetails principal) {
+
+        ReservationDto reservationDto = ReservationDto.of(sessionId, principal.id());
+
+        ReservationIdDto reservationIdDto = seatReservationService.reserve(reservationDto);
+
+        return ResponseEntity.ok().body(ApiResponse.success(reservationIdDto));
+    }
 }
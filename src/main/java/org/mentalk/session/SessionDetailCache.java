@@ -0,0 +1,49 @@
+package org.mentalk.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.mentalk.session.dto.SessionDetailDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class SessionDetailCache {
+
+    private final Cache<Long, SessionDetailDto> cache;
+
+    public SessionDetailCache(MeterRegistry meterRegistry,
+                              @Value("${session.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${session.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                             .recordStats()
+                             .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "session.detail");
+    }
+
+    public SessionDetailDto get(Long sessionId, Function<Long, SessionDetailDto> loader) {
+        return cache.get(sessionId, loader);
+    }
+
+    public void evictAfterCommit(Long sessionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(sessionId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(sessionId);
+            }
+        });
+    }
+}
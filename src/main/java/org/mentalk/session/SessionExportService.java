@@ -0,0 +1,37 @@
+package org.mentalk.session;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.mentalk.common.export.ExportFormat;
+import org.mentalk.common.export.ExportQueries;
+import org.mentalk.common.export.ExportWriter;
+import org.mentalk.session.dto.SessionExportDto;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class SessionExportService {
+
+    static final String EXPORT_QUERY = """
+            select new org.mentalk.session.dto.SessionExportDto(
+                s.id, s.sessionType, s.title, s.content, s.capacity, s.reservedCount,
+                m.id, m.name, s.createdTime)
+            from Session s
+            join s.mentor m
+            order by s.id
+            """;
+
+    private final ExportQueries exportQueries;
+    private final ExportWriter exportWriter;
+
+    // 커서가 열려 있는 동안 트랜잭션을 유지해야 하므로 응답 본문을 쓰는 스레드에서 호출한다.
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<SessionExportDto> rows = exportQueries.stream(EXPORT_QUERY, SessionExportDto.class)) {
+            return exportWriter.write(rows, format, SessionExportDto.HEADER, outputStream);
+        }
+    }
+}
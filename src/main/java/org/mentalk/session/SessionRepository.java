@@ -1,9 +1,77 @@
 package org.mentalk.session;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.mentalk.common.enums.SessionType;
 import org.mentalk.session.domain.Session;
+import org.mentalk.session.dto.SessionDetailDto;
+import org.mentalk.session.dto.SessionSummaryDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SessionRepository extends JpaRepository<Session, Long> {
+
+    @Query("""
+            select new org.mentalk.session.dto.SessionSummaryDto(
+                s.id, s.sessionType, s.title, m.id, m.name, s.createdTime)
+            from Session s
+            join s.mentor m
+            where (:sessionType is null or s.sessionType = :sessionType)
+              and (:mentorId is null or m.id = :mentorId)
+              and (:cursorCreatedTime is null
+                   or s.createdTime < :cursorCreatedTime
+                   or (s.createdTime = :cursorCreatedTime and s.id < :cursorId))
+            order by s.createdTime desc, s.id desc
+            """)
+    List<SessionSummaryDto> findFeed(@Param("sessionType") SessionType sessionType,
+                                     @Param("mentorId") Long mentorId,
+                                     @Param("cursorCreatedTime") LocalDateTime cursorCreatedTime,
+                                     @Param("cursorId") Long cursorId,
+                                     Pageable pageable);
+
+    @Query("""
+            select new org.mentalk.session.dto.SessionDetailDto(
+                s.id, s.sessionType, s.title, s.content, m.id, m.name, s.createdTime)
+            from Session s
+            join s.mentor m
+            where s.id = :sessionId
+            """)
+    Optional<SessionDetailDto> findDetailById(@Param("sessionId") Long sessionId);
+
+    @Query("""
+            select new org.mentalk.session.dto.SessionDetailDto(
+                s.id, s.sessionType, s.title, s.content, m.id, m.name, s.createdTime)
+            from Session s
+            join s.mentor m
+            where s.id > :afterId
+            order by s.id
+            """)
+    List<SessionDetailDto> findDetailsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select new org.mentalk.session.dto.SessionDetailDto(
+                s.id, s.sessionType, s.title, s.content, m.id, m.name, s.createdTime)
+            from Session s
+            join s.mentor m
+            where s.createdTime >= :since
+              and s.id > :afterId
+            order by s.id
+            """)
+    List<SessionDetailDto> findDetailsCreatedSince(@Param("since") LocalDateTime since,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    @Query("select s.capacity - s.reservedCount from Session s where s.id = :sessionId")
+    Optional<Integer> findRemainingSeats(@Param("sessionId") Long sessionId);
+
+    @Modifying
+    @Query("update Session s set s.reservedCount = s.reservedCount + 1 "
+            + "where s.id = :sessionId and s.reservedCount < s.capacity")
+    int incrementReservedCount(@Param("sessionId") Long sessionId);
 }
@@ -0,0 +1,275 @@
+package org.mentalk.session;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.mentalk.common.enums.SessionType;
+import org.mentalk.session.dto.SessionDetailDto;
+import org.mentalk.session.dto.SessionSearchResultDto;
+import org.mentalk.session.dto.SessionSummaryDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SessionSearchIndex {
+
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedSession> sessions = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+    private long lastIndexedId;
+    private LocalDateTime syncedTime;
+
+    public void index(SessionDetailDto session) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        NGramTokenizer.tokenize(session.title())
+                      .forEach(term -> termFrequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        NGramTokenizer.tokenize(session.content())
+                      .forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+
+        SessionSummaryDto summary = new SessionSummaryDto(session.id(), session.sessionType(),
+                                                          session.title(), session.mentorId(),
+                                                          session.mentorName(),
+                                                          session.createdTime());
+
+        lock.writeLock().lock();
+        try {
+            add(IndexedSession.of(summary, termFrequencies));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SessionSearchResultDto> search(String query, int size) {
+        List<String> terms = List.copyOf(new LinkedHashSet<>(NGramTokenizer.tokenize(query)));
+
+        lock.readLock().lock();
+        try {
+            if (sessions.isEmpty() || terms.isEmpty()) {
+                return List.of();
+            }
+
+            double averageLength = (double) totalLength / sessions.size();
+            Map<Long, Double> scores = new HashMap<>();
+
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (sessions.size() - posting.size() + 0.5)
+                                          / (posting.size() + 0.5));
+                posting.forEach((sessionId, frequency) -> {
+                    double length = sessions.get(sessionId).length();
+                    double score = idf * frequency * (K1 + 1)
+                                   / (frequency + K1 * (1 - B + B * length / averageLength));
+                    scores.merge(sessionId, score, Double::sum);
+                });
+            }
+
+            return scores.entrySet()
+                         .stream()
+                         .sorted(Map.Entry.<Long, Double>comparingByValue()
+                                          .reversed()
+                                          .thenComparing(Map.Entry.<Long, Double>comparingByKey(
+                                                  Comparator.reverseOrder())))
+                         .limit(size)
+                         .map(entry -> SessionSearchResultDto.of(
+                                 sessions.get(entry.getKey()).summary(), entry.getValue()))
+                         .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getLastIndexedId() {
+        lock.readLock().lock();
+        try {
+            return lastIndexedId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 이 시각까지 생성된 세션은 색인에 반영되었다. 아직 DB와 맞춘 적이 없으면 null이다.
+    public LocalDateTime getSyncedTime() {
+        lock.readLock().lock();
+        try {
+            return syncedTime;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void markSynced(LocalDateTime time) {
+        lock.writeLock().lock();
+        try {
+            syncedTime = time;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return sessions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            sessions.clear();
+            totalLength = 0;
+            lastIndexedId = 0;
+            syncedTime = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void save(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), "session-search", ".tmp");
+
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(lastIndexedId);
+            out.writeUTF(syncedTime != null ? syncedTime.toString() : "");
+            out.writeInt(sessions.size());
+
+            for (IndexedSession session : sessions.values()) {
+                SessionSummaryDto summary = session.summary();
+                out.writeLong(summary.id());
+                out.writeUTF(summary.sessionType().name());
+                out.writeUTF(summary.title());
+                out.writeLong(summary.mentorId());
+                out.writeUTF(summary.mentorName());
+                out.writeUTF(summary.createdTime().toString());
+
+                out.writeInt(session.termFrequencies().size());
+                for (Map.Entry<String, Integer> entry : session.termFrequencies().entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue());
+                }
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public boolean load(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+
+        List<IndexedSession> loaded = new ArrayList<>();
+        long loadedLastIndexedId;
+        LocalDateTime loadedSyncedTime;
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                return false;
+            }
+            loadedLastIndexedId = in.readLong();
+            String syncedTimeValue = in.readUTF();
+            loadedSyncedTime = syncedTimeValue.isEmpty() ? null
+                                                          : LocalDateTime.parse(syncedTimeValue);
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                SessionSummaryDto summary = new SessionSummaryDto(in.readLong(),
+                                                                  SessionType.valueOf(in.readUTF()),
+                                                                  in.readUTF(),
+                                                                  in.readLong(),
+                                                                  in.readUTF(),
+                                                                  LocalDateTime.parse(in.readUTF()));
+
+                int termCount = in.readInt();
+                Map<String, Integer> termFrequencies = new HashMap<>(termCount * 2);
+                for (int j = 0; j < termCount; j++) {
+                    termFrequencies.put(in.readUTF(), in.readInt());
+                }
+
+                loaded.add(IndexedSession.of(summary, termFrequencies));
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            sessions.clear();
+            totalLength = 0;
+            lastIndexedId = loadedLastIndexedId;
+            syncedTime = loadedSyncedTime;
+            loaded.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return true;
+    }
+
+    private void add(IndexedSession session) {
+        Long sessionId = session.summary().id();
+
+        IndexedSession previous = sessions.put(sessionId, session);
+        if (previous != null) {
+            totalLength -= previous.length();
+            previous.termFrequencies().keySet().forEach(term -> {
+                Map<Long, Integer> posting = postings.get(term);
+                posting.remove(sessionId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            });
+        }
+
+        session.termFrequencies().forEach(
+                (term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>())
+                                             .put(sessionId, frequency));
+        totalLength += session.length();
+        lastIndexedId = Math.max(lastIndexedId, sessionId);
+    }
+
+    private record IndexedSession(SessionSummaryDto summary,
+                                  Map<String, Integer> termFrequencies,
+                                  int length) {
+
+        static IndexedSession of(SessionSummaryDto summary, Map<String, Integer> termFrequencies) {
+            int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+            return new IndexedSession(summary, termFrequencies, length);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.mentalk.session;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.mentalk.common.sync.CreatedTimePoller;
+import org.mentalk.common.sync.CreatedTimePollers;
+import org.mentalk.session.dto.SessionCreatedEvent;
+import org.mentalk.session.dto.SessionDetailDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 다른 인스턴스가 만든 세션은 생성 시각 기준 주기 동기화로 들어온다. 같은 세션을 다시 색인하면 덮어쓴다.
+// 동기화 기준 시각은 스냅샷과 함께 저장되도록 색인에도 기록한다.
+@Slf4j
+@Component
+public class SessionSearchIndexer {
+
+    private final SessionSearchIndex sessionSearchIndex;
+    private final SessionRepository sessionRepository;
+    private final Path snapshotPath;
+    private final CreatedTimePoller<SessionDetailDto> poller;
+
+    public SessionSearchIndexer(SessionSearchIndex sessionSearchIndex,
+                                SessionRepository sessionRepository,
+                                CreatedTimePollers createdTimePollers,
+                                @Value("${session.search.snapshot-path:data/session-search.idx}") String snapshotPath,
+                                @Value("${session.search.batch-size:500}") int batchSize) {
+        this.sessionSearchIndex = sessionSearchIndex;
+        this.sessionRepository = sessionRepository;
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.poller = createdTimePollers.create(batchSize, sessionRepository::findDetailsCreatedSince,
+                                                SessionDetailDto::id, sessionSearchIndex::index);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        boolean loaded = loadSnapshot() && sessionSearchIndex.getSyncedTime() != null;
+        int snapshotSize = loaded ? sessionSearchIndex.size() : 0;
+
+        int indexed;
+        if (loaded) {
+            poller.markSynced(sessionSearchIndex.getSyncedTime());
+            indexed = poller.poll();
+        } else {
+            indexed = poller.load(sessionRepository::findDetailsAfter);
+        }
+        sessionSearchIndex.markSynced(poller.getSyncedTime());
+        log.info("Session search index ready: {} sessions ({} from snapshot, {} from database)",
+                 sessionSearchIndex.size(), snapshotSize, indexed);
+
+        if (indexed > 0) {
+            saveSnapshot();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionCreated(SessionCreatedEvent event) {
+        sessionSearchIndex.index(event.session());
+    }
+
+    @Scheduled(fixedDelayString = "${session.search.sync-interval-ms:5000}")
+    public void sync() {
+        // 기동 시 적재가 끝나기 전에는 동기화 기준 시각이 없다.
+        if (poller.getSyncedTime() == null) {
+            return;
+        }
+
+        int indexed = poller.poll();
+        sessionSearchIndex.markSynced(poller.getSyncedTime());
+        if (indexed > 0) {
+            log.debug("Synced {} sessions into the search index", indexed);
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+
+        try {
+            sessionSearchIndex.save(snapshotPath);
+        } catch (IOException e) {
+            log.warn("Failed to save session search snapshot to {}", snapshotPath, e);
+        }
+    }
+
+    private boolean loadSnapshot() {
+        if (snapshotPath == null) {
+            return false;
+        }
+
+        try {
+            return sessionSearchIndex.load(snapshotPath);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable session search snapshot {}", snapshotPath, e);
+            sessionSearchIndex.clear();
+            return false;
+        }
+    }
+}
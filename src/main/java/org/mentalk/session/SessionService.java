@@ -1,13 +1,27 @@
 package org.mentalk.session;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.enums.OutboxEventType;
 import org.mentalk.common.exception.ApiException;
+import org.mentalk.common.outbox.OutboxPublisher;
 import org.mentalk.member.MemberRepository;
 import org.mentalk.member.domain.Member;
 import org.mentalk.session.domain.Session;
+import org.mentalk.session.dto.SessionBulkDto;
+import org.mentalk.session.dto.SessionCreatedEvent;
+import org.mentalk.session.dto.SessionCursor;
+import org.mentalk.session.dto.SessionDetailDto;
 import org.mentalk.session.dto.SessionDto;
+import org.mentalk.session.dto.SessionFeedDto;
+import org.mentalk.session.dto.SessionFeedQueryDto;
 import org.mentalk.session.dto.SessionIdDto;
+import org.mentalk.session.dto.SessionIdsDto;
+import org.mentalk.session.dto.SessionSearchResultDto;
+import org.mentalk.session.dto.SessionSummaryDto;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +31,10 @@ public class SessionService {
 
     private final MemberRepository memberRepository;
     private final SessionRepository sessionRepository;
+    private final SessionDetailCache sessionDetailCache;
+    private final SessionSearchIndex sessionSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxPublisher outboxPublisher;
 
     @Transactional
     public SessionIdDto createSession(SessionDto sessionDto) {
@@ -24,7 +42,57 @@ public class SessionService {
                 () -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
 
         Session session = sessionRepository.save(sessionDto.toEntity(mentor));
+        sessionDetailCache.evictAfterCommit(session.getId());
+        publishCreated(session);
 
         return SessionIdDto.of(session.getId());
     }
+
+    @Transactional
+    public SessionIdsDto createSessions(SessionBulkDto sessionBulkDto) {
+        Member mentor = memberRepository.findById(sessionBulkDto.mentorId()).orElseThrow(
+                () -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
+
+        List<Session> sessions = sessionRepository.saveAll(
+                sessionBulkDto.sessions().stream().map(dto -> dto.toEntity(mentor)).toList());
+        sessions.forEach(session -> {
+            sessionDetailCache.evictAfterCommit(session.getId());
+            publishCreated(session);
+        });
+
+        return SessionIdsDto.of(sessions.stream().map(Session::getId).toList());
+    }
+
+    public SessionDetailDto getSession(Long sessionId) {
+        return sessionDetailCache.get(sessionId, this::loadSessionDetail);
+    }
+
+    @Transactional(readOnly = true)
+    public SessionFeedDto getSessionFeed(SessionFeedQueryDto queryDto) {
+        SessionCursor cursor = queryDto.cursor();
+
+        List<SessionSummaryDto> sessions = sessionRepository.findFeed(
+                queryDto.sessionType(),
+                queryDto.mentorId(),
+                cursor != null ? cursor.createdTime() : null,
+                cursor != null ? cursor.id() : null,
+                PageRequest.ofSize(queryDto.size() + 1));
+
+        return SessionFeedDto.of(sessions, queryDto.size());
+    }
+
+    public List<SessionSearchResultDto> searchSessions(String query, int size) {
+        return sessionSearchIndex.search(query, size);
+    }
+
+    private void publishCreated(Session session) {
+        SessionDetailDto detail = SessionDetailDto.of(session);
+        eventPublisher.publishEvent(SessionCreatedEvent.of(detail));
+        outboxPublisher.publish(OutboxEventType.SESSION_CREATED, session.getId(), detail);
+    }
+
+    private SessionDetailDto loadSessionDetail(Long sessionId) {
+        return sessionRepository.findDetailById(sessionId)
+                                .orElseThrow(() -> new ApiException(ErrorCode.SESSION_NOT_FOUND));
+    }
 }
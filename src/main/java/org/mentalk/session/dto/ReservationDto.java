@@ -0,0 +1,20 @@
+package org.mentalk.session.dto;
+
+import org.mentalk.member.domain.Member;
+import org.mentalk.session.domain.Reservation;
+import org.mentalk.session.domain.Session;
+
+public record ReservationDto(Long sessionId,
+                             Long memberId) {
+
+    public static ReservationDto of(Long sessionId, Long memberId) {
+        return new ReservationDto(sessionId, memberId);
+    }
+
+    public Reservation toEntity(Session session, Member member) {
+        return Reservation.builder()
+                          .session(session)
+                          .member(member)
+                          .build();
+    }
+}
@@ -0,0 +1,8 @@
+package org.mentalk.session.dto;
+
+public record ReservationIdDto(Long id) {
+
+    public static ReservationIdDto of(Long id) {
+        return new ReservationIdDto(id);
+    }
+}
@@ -0,0 +1,16 @@
+package org.mentalk.session.dto;
+
+import java.util.List;
+import org.mentalk.session.request.SessionBulkCreateRequest;
+
+public record SessionBulkDto(Long mentorId,
+                             List<SessionDto> sessions) {
+
+    public static SessionBulkDto of(SessionBulkCreateRequest request, Long mentorId) {
+        List<SessionDto> sessions = request.sessions()
+                                           .stream()
+                                           .map(session -> SessionDto.of(session, mentorId))
+                                           .toList();
+        return new SessionBulkDto(mentorId, sessions);
+    }
+}
@@ -0,0 +1,8 @@
+package org.mentalk.session.dto;
+
+public record SessionCreatedEvent(SessionDetailDto session) {
+
+    public static SessionCreatedEvent of(SessionDetailDto session) {
+        return new SessionCreatedEvent(session);
+    }
+}
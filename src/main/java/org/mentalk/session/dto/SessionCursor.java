@@ -0,0 +1,41 @@
+package org.mentalk.session.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.exception.ApiException;
+
+public record SessionCursor(LocalDateTime createdTime, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static SessionCursor of(SessionSummaryDto session) {
+        return new SessionCursor(session.createdTime(), session.id());
+    }
+
+    public static SessionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+                                        StandardCharsets.UTF_8);
+            int index = decoded.indexOf(DELIMITER);
+
+            return new SessionCursor(LocalDateTime.parse(decoded.substring(0, index)),
+                                     Long.valueOf(decoded.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdTime + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,20 @@
+package org.mentalk.session.dto;
+
+import java.time.LocalDateTime;
+import org.mentalk.common.enums.SessionType;
+import org.mentalk.session.domain.Session;
+
+public record SessionDetailDto(Long id,
+                               SessionType sessionType,
+                               String title,
+                               String content,
+                               Long mentorId,
+                               String mentorName,
+                               LocalDateTime createdTime) {
+
+    public static SessionDetailDto of(Session session) {
+        return new SessionDetailDto(session.getId(), session.getSessionType(), session.getTitle(),
+                                    session.getContent(), session.getMentor().getId(),
+                                    session.getMentor().getName(), session.getCreatedTime());
+    }
+}
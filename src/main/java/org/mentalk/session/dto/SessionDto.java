@@ -8,10 +8,15 @@ import org.mentalk.session.request.SessionCreateRequest;
 public record SessionDto(SessionType sessionType,
                          String title,
                          String content,
+                         int capacity,
                          Long mentorId) {
 
+    private static final int DEFAULT_CAPACITY = 1;
+
     public static SessionDto of(SessionCreateRequest request, Long mentorId) {
-        return new SessionDto(request.sessionType(), request.title(), request.content(), mentorId);
+        int capacity = request.capacity() != null ? request.capacity() : DEFAULT_CAPACITY;
+        return new SessionDto(request.sessionType(), request.title(), request.content(), capacity,
+                              mentorId);
     }
 
     public Session toEntity(Member mentor) {
@@ -20,6 +25,7 @@ public record SessionDto(SessionType sessionType,
                       .sessionType(sessionType)
                       .title(title)
                       .content(content)
+                      .capacity(capacity)
                       .build();
     }
 }
@@ -0,0 +1,28 @@
+package org.mentalk.session.dto;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.mentalk.common.enums.SessionType;
+import org.mentalk.common.export.ExportRow;
+
+public record SessionExportDto(Long id,
+                               SessionType sessionType,
+                               String title,
+                               String content,
+                               int capacity,
+                               int reservedCount,
+                               Long mentorId,
+                               String mentorName,
+                               LocalDateTime createdTime) implements ExportRow {
+
+    public static final List<String> HEADER = List.of("id", "sessionType", "title", "content",
+                                                      "capacity", "reservedCount", "mentorId",
+                                                      "mentorName", "createdTime");
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, sessionType, title, content, capacity, reservedCount, mentorId,
+                             mentorName, createdTime);
+    }
+}
@@ -0,0 +1,16 @@
+package org.mentalk.session.dto;
+
+import java.util.List;
+
+public record SessionFeedDto(List<SessionSummaryDto> sessions,
+                             String nextCursor) {
+
+    public static SessionFeedDto of(List<SessionSummaryDto> sessions, int size) {
+        if (sessions.size() <= size) {
+            return new SessionFeedDto(sessions, null);
+        }
+
+        List<SessionSummaryDto> page = sessions.subList(0, size);
+        return new SessionFeedDto(List.copyOf(page), SessionCursor.of(page.get(size - 1)).encode());
+    }
+}
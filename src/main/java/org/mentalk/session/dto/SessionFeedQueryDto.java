@@ -0,0 +1,18 @@
+package org.mentalk.session.dto;
+
+import org.mentalk.common.enums.SessionType;
+import org.mentalk.session.request.SessionFeedRequest;
+
+public record SessionFeedQueryDto(SessionType sessionType,
+                                  Long mentorId,
+                                  SessionCursor cursor,
+                                  int size) {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    public static SessionFeedQueryDto of(SessionFeedRequest request) {
+        return new SessionFeedQueryDto(request.sessionType(), request.mentorId(),
+                                       SessionCursor.decode(request.cursor()),
+                                       request.size() != null ? request.size() : DEFAULT_SIZE);
+    }
+}
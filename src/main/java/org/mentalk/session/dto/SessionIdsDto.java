@@ -0,0 +1,10 @@
+package org.mentalk.session.dto;
+
+import java.util.List;
+
+public record SessionIdsDto(List<Long> ids) {
+
+    public static SessionIdsDto of(List<Long> ids) {
+        return new SessionIdsDto(ids);
+    }
+}
@@ -0,0 +1,19 @@
+package org.mentalk.session.dto;
+
+import java.time.LocalDateTime;
+import org.mentalk.common.enums.SessionType;
+
+public record SessionSearchResultDto(Long id,
+                                     SessionType sessionType,
+                                     String title,
+                                     Long mentorId,
+                                     String mentorName,
+                                     LocalDateTime createdTime,
+                                     double score) {
+
+    public static SessionSearchResultDto of(SessionSummaryDto session, double score) {
+        return new SessionSearchResultDto(session.id(), session.sessionType(), session.title(),
+                                          session.mentorId(), session.mentorName(),
+                                          session.createdTime(), score);
+    }
+}
@@ -0,0 +1,12 @@
+package org.mentalk.session.dto;
+
+import java.time.LocalDateTime;
+import org.mentalk.common.enums.SessionType;
+
+public record SessionSummaryDto(Long id,
+                                SessionType sessionType,
+                                String title,
+                                Long mentorId,
+                                String mentorName,
+                                LocalDateTime createdTime) {
+}
@@ -0,0 +1,10 @@
+package org.mentalk.session.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record SessionBulkCreateRequest(@NotEmpty @Size(max = 500)
+                                       List<@Valid SessionCreateRequest> sessions) {
+}
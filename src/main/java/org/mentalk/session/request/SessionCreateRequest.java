@@ -1,10 +1,13 @@
 package org.mentalk.session.request;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import org.mentalk.common.enums.SessionType;
 
 public record SessionCreateRequest(@NotNull SessionType sessionType,
                                    @NotBlank String title,
-                                   @NotBlank String content) {
+                                   @NotBlank String content,
+                                   @Positive @Max(10000) Integer capacity) {
 }
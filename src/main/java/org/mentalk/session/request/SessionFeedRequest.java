@@ -0,0 +1,11 @@
+package org.mentalk.session.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.mentalk.common.enums.SessionType;
+
+public record SessionFeedRequest(SessionType sessionType,
+                                 Long mentorId,
+                                 String cursor,
+                                 @Min(1) @Max(50) Integer size) {
+}
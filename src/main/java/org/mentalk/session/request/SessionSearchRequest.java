@@ -0,0 +1,10 @@
+package org.mentalk.session.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record SessionSearchRequest(@NotBlank @Size(max = 100) String query,
+                                   @Min(1) @Max(50) Integer size) {
+}
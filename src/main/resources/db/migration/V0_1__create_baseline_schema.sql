@@ -0,0 +1,42 @@
+-- Flyway 도입 전 스키마(IDENTITY id를 쓰던 회원, 계정, 세션 테이블). 빈 DB에서는 여기서 시작해 V1부터 이어진다.
+-- 이전부터 운영하던 DB는 baseline-version=0.1로 이 버전까지 적용된 것으로 기록되므로 실행되지 않는다.
+-- 유니크 제약은 V4가 기대하는 이름으로 바로 만든다.
+
+CREATE TABLE IF NOT EXISTS member
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    name         VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    role         VARCHAR(255) NOT NULL,
+    created_time DATETIME(6),
+    updated_time DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_member_phone_number UNIQUE (phone_number)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS local_account
+(
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id       BIGINT       NOT NULL,
+    email           VARCHAR(255) NOT NULL,
+    hashed_password VARCHAR(255) NOT NULL,
+    created_time    DATETIME(6),
+    updated_time    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_local_account_member UNIQUE (member_id),
+    CONSTRAINT uk_local_account_email UNIQUE (email),
+    CONSTRAINT fk_local_account_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS session
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    mentor_id    BIGINT       NOT NULL,
+    session_type VARCHAR(255) NOT NULL,
+    title        VARCHAR(255) NOT NULL,
+    content      TEXT         NOT NULL,
+    created_time DATETIME(6),
+    updated_time DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_session_mentor FOREIGN KEY (mentor_id) REFERENCES member (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,24 @@
+-- 가용 시간 인덱스가 다른 인스턴스의 공개 구간과 예약을 생성 시각 기준으로 주기적으로 가져올 때 쓰는 인덱스.
+-- ddl-auto로 이미 만들어진 환경도 있으므로 없을 때만 만든다.
+
+SET @ddl = IF((SELECT COUNT(*)
+               FROM information_schema.statistics
+               WHERE table_schema = DATABASE()
+                 AND table_name = 'availability_window'
+                 AND index_name = 'idx_availability_window_created_time') > 0,
+              'DO 0',
+              'CREATE INDEX idx_availability_window_created_time ON availability_window (created_time)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*)
+               FROM information_schema.statistics
+               WHERE table_schema = DATABASE()
+                 AND table_name = 'slot_booking'
+                 AND index_name = 'idx_slot_booking_created_time') > 0,
+              'DO 0',
+              'CREATE INDEX idx_slot_booking_created_time ON slot_booking (created_time)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
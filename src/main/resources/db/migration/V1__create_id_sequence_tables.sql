@@ -0,0 +1,29 @@
+-- MySQL에는 시퀀스가 없으므로 Hibernate가 사용하는 시퀀스 테이블을 만든다.
+-- pooled 옵티마이저는 읽은 값 - (allocationSize - 1) 부터 할당하므로 기존 최대 id + allocationSize + 1 로 시작한다.
+
+CREATE TABLE member_seq
+(
+    next_val BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+INSERT INTO member_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51
+FROM member;
+
+CREATE TABLE local_account_seq
+(
+    next_val BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+INSERT INTO local_account_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51
+FROM local_account;
+
+CREATE TABLE session_seq
+(
+    next_val BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+INSERT INTO session_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51
+FROM session;
@@ -0,0 +1,25 @@
+-- 기존 세션은 1:1 세션으로 간주한다.
+ALTER TABLE session
+    ADD COLUMN capacity       INT NOT NULL DEFAULT 1,
+    ADD COLUMN reserved_count INT NOT NULL DEFAULT 0;
+
+CREATE TABLE reservation
+(
+    id           BIGINT NOT NULL,
+    session_id   BIGINT NOT NULL,
+    member_id    BIGINT NOT NULL,
+    created_time DATETIME(6),
+    updated_time DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reservation_session_member UNIQUE (session_id, member_id),
+    CONSTRAINT fk_reservation_session FOREIGN KEY (session_id) REFERENCES session (id),
+    CONSTRAINT fk_reservation_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reservation_seq
+(
+    next_val BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+INSERT INTO reservation_seq (next_val)
+VALUES (1);
@@ -0,0 +1,21 @@
+CREATE TABLE token_revocation
+(
+    id            BIGINT       NOT NULL,
+    token_id      VARCHAR(255),
+    member_id     BIGINT       NOT NULL,
+    issued_before DATETIME(6),
+    expires_at    DATETIME(6)  NOT NULL,
+    created_time  DATETIME(6),
+    updated_time  DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_token_revocation_created_time (created_time),
+    INDEX idx_token_revocation_expires_at (expires_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE token_revocation_seq
+(
+    next_val BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+INSERT INTO token_revocation_seq (next_val)
+VALUES (1);
@@ -0,0 +1,44 @@
+-- 회원가입은 중복 사전 조회 없이 유니크 제약 이름으로 위반 원인을 구분한다.
+-- 기존 스키마의 유니크 인덱스는 Hibernate가 임의로 붙인 이름이므로 정해진 이름으로 바꾼다.
+
+SET @index_name = (SELECT index_name
+                   FROM information_schema.statistics
+                   WHERE table_schema = DATABASE()
+                     AND table_name = 'member'
+                     AND column_name = 'phone_number'
+                     AND non_unique = 0
+                   LIMIT 1);
+SET @ddl = IF(@index_name IS NULL OR @index_name = 'uk_member_phone_number',
+              'DO 0',
+              CONCAT('ALTER TABLE member RENAME INDEX `', @index_name, '` TO uk_member_phone_number'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @index_name = (SELECT index_name
+                   FROM information_schema.statistics
+                   WHERE table_schema = DATABASE()
+                     AND table_name = 'local_account'
+                     AND column_name = 'member_id'
+                     AND non_unique = 0
+                   LIMIT 1);
+SET @ddl = IF(@index_name IS NULL OR @index_name = 'uk_local_account_member',
+              'DO 0',
+              CONCAT('ALTER TABLE local_account RENAME INDEX `', @index_name, '` TO uk_local_account_member'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @index_name = (SELECT index_name
+                   FROM information_schema.statistics
+                   WHERE table_schema = DATABASE()
+                     AND table_name = 'local_account'
+                     AND column_name = 'email'
+                     AND non_unique = 0
+                   LIMIT 1);
+SET @ddl = IF(@index_name IS NULL OR @index_name = 'uk_local_account_email',
+              'DO 0',
+              CONCAT('ALTER TABLE local_account RENAME INDEX `', @index_name, '` TO uk_local_account_email'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,22 @@
+CREATE TABLE outbox_event
+(
+    id              BIGINT       NOT NULL,
+    event_type      VARCHAR(255) NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+    payload         TEXT         NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    available_time  DATETIME(6)  NOT NULL,
+    dispatched_time DATETIME(6),
+    created_time    DATETIME(6),
+    updated_time    DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_outbox_event_pending (dispatched_time, available_time, id)
+) ENGINE = InnoDB;
+
+CREATE TABLE outbox_event_seq
+(
+    next_val BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+INSERT INTO outbox_event_seq (next_val)
+VALUES (1);
@@ -0,0 +1,2 @@
+-- ADMIN 역할을 추가한다. Hibernate가 만든 스키마라면 role이 ENUM 컬럼일 수 있으므로 문자열로 넓힌다.
+ALTER TABLE member MODIFY role VARCHAR(255) NOT NULL;
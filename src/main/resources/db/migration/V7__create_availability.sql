@@ -0,0 +1,48 @@
+-- 멘토가 공개한 상담 가능 시간과 그 안에서 잡은 예약. 구간은 [start_time, end_time) 이다.
+CREATE TABLE availability_window
+(
+    id           BIGINT       NOT NULL,
+    mentor_id    BIGINT       NOT NULL,
+    session_type VARCHAR(255) NOT NULL,
+    start_time   DATETIME(6)  NOT NULL,
+    end_time     DATETIME(6)  NOT NULL,
+    created_time DATETIME(6),
+    updated_time DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_availability_window_mentor (mentor_id, start_time),
+    CONSTRAINT fk_availability_window_mentor FOREIGN KEY (mentor_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE slot_booking
+(
+    id                     BIGINT      NOT NULL,
+    availability_window_id BIGINT      NOT NULL,
+    mentor_id              BIGINT      NOT NULL,
+    member_id              BIGINT      NOT NULL,
+    start_time             DATETIME(6) NOT NULL,
+    end_time               DATETIME(6) NOT NULL,
+    created_time           DATETIME(6),
+    updated_time           DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_slot_booking_mentor (mentor_id, start_time),
+    CONSTRAINT fk_slot_booking_window
+        FOREIGN KEY (availability_window_id) REFERENCES availability_window (id),
+    CONSTRAINT fk_slot_booking_mentor FOREIGN KEY (mentor_id) REFERENCES member (id),
+    CONSTRAINT fk_slot_booking_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE availability_window_seq
+(
+    next_val BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+INSERT INTO availability_window_seq (next_val)
+VALUES (1);
+
+CREATE TABLE slot_booking_seq
+(
+    next_val BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+INSERT INTO slot_booking_seq (next_val)
+VALUES (1);
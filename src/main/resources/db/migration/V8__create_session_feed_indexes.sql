@@ -0,0 +1,35 @@
+-- 키셋 피드 조회가 쓰는 인덱스. 엔티티의 @Index 선언만으로는 Flyway 스키마에 생기지 않는다.
+-- ddl-auto로 이미 만들어진 환경도 있으므로 없을 때만 만든다.
+
+SET @ddl = IF((SELECT COUNT(*)
+               FROM information_schema.statistics
+               WHERE table_schema = DATABASE()
+                 AND table_name = 'session'
+                 AND index_name = 'idx_session_created_time_id') > 0,
+              'DO 0',
+              'CREATE INDEX idx_session_created_time_id ON session (created_time, id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*)
+               FROM information_schema.statistics
+               WHERE table_schema = DATABASE()
+                 AND table_name = 'session'
+                 AND index_name = 'idx_session_mentor_created_time_id') > 0,
+              'DO 0',
+              'CREATE INDEX idx_session_mentor_created_time_id ON session (mentor_id, created_time, id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*)
+               FROM information_schema.statistics
+               WHERE table_schema = DATABASE()
+                 AND table_name = 'session'
+                 AND index_name = 'idx_session_type_created_time_id') > 0,
+              'DO 0',
+              'CREATE INDEX idx_session_type_created_time_id ON session (session_type, created_time, id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
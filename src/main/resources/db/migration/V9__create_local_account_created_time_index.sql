@@ -0,0 +1,13 @@
+-- 이메일 블룸 필터가 다른 인스턴스의 가입을 생성 시각 기준으로 주기적으로 가져올 때 쓰는 인덱스.
+-- ddl-auto로 이미 만들어진 환경도 있으므로 없을 때만 만든다.
+
+SET @ddl = IF((SELECT COUNT(*)
+               FROM information_schema.statistics
+               WHERE table_schema = DATABASE()
+                 AND table_name = 'local_account'
+                 AND index_name = 'idx_local_account_created_time') > 0,
+              'DO 0',
+              'CREATE INDEX idx_local_account_created_time ON local_account (created_time)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,175 @@
+package org.mentalk;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.utils.sql.SqlBudgetConfig;
+import org.mentalk.utils.sql.SqlRecorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+// 컨트롤러 테스트는 서비스를 목으로 대체하므로 쿼리 수는 실제 빈과 H2로 잰다.
+// 시퀀스 할당(allocationSize 50)이 측정에 섞이지 않도록 같은 종류의 쓰기를 한 번 먼저 실행한다.
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfig.class)
+class EndpointSqlBudgetTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        SqlRecorder.reset();
+    }
+
+    @Test
+    @DisplayName("[SQL 예산] 회원가입 -> 기존 회원 조회와 회원, 아웃박스, 계정 INSERT만 실행")
+    void signup() throws Exception {
+        // given
+        signup(nextEmail(), nextPhoneNumber());
+
+        // when
+        signup(nextEmail(), nextPhoneNumber());
+
+        // then
+        SqlRecorder.lastRequest().assertAtMost(4).assertNoRepeatedStatements();
+        SqlRecorder.lastTransaction("SignupWriter.write").assertAtMost(4);
+    }
+
+    @Test
+    @DisplayName("[SQL 예산] 이메일 중복 확인, 로그인 -> 조회 한 번")
+    void checkEmailAndLogin() throws Exception {
+        // given
+        String email = nextEmail();
+        signup(email, nextPhoneNumber());
+
+        // when & then
+        mockMvc.perform(post("/api/auth/email/exists")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(Map.of("email", email))))
+               .andExpect(status().isOk());
+        SqlRecorder.lastRequest().assertAtMost(1);
+
+        login(email);
+        SqlRecorder.lastRequest().assertAtMost(1);
+    }
+
+    @Test
+    @DisplayName("[SQL 예산] 멘토 전환 -> 회원 조회, 폐기 기록, 아웃박스, 역할 갱신")
+    void changeRoleToMentor() throws Exception {
+        // given
+        mentor();
+        String email = nextEmail();
+        signup(email, nextPhoneNumber());
+        String token = login(email);
+
+        // when
+        mockMvc.perform(put("/api/members/role/mentor").cookie(new Cookie("access_token", token)))
+               .andExpect(status().isOk());
+
+        // then
+        SqlRecorder.lastRequest().assertAtMost(4).assertNoRepeatedStatements();
+    }
+
+    @Test
+    @DisplayName("[SQL 예산] 세션 생성, 상세, 피드 -> 연관관계 추가 조회 없음")
+    void sessions() throws Exception {
+        // given
+        String token = mentor();
+        createSession(token);
+
+        // when & then
+        long sessionId = createSession(token);
+        SqlRecorder.lastRequest().assertAtMost(3).assertNoRepeatedStatements();
+
+        mockMvc.perform(get("/api/sessions/{sessionId}", sessionId)
+                                .cookie(new Cookie("access_token", token)))
+               .andExpect(status().isOk());
+        SqlRecorder.lastRequest().assertAtMost(1);
+
+        mockMvc.perform(get("/api/sessions").param("size", "20")
+                                .cookie(new Cookie("access_token", token)))
+               .andExpect(status().isOk());
+        SqlRecorder.lastRequest().assertAtMost(1);
+    }
+
+    private void signup(String email, String phoneNumber) throws Exception {
+        mockMvc.perform(post("/api/members")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(Map.of("email", email,
+                                                     "password", "password",
+                                                     "name", "user",
+                                                     "phoneNumber", phoneNumber))))
+               .andExpect(status().isOk());
+    }
+
+    private String login(String email) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                                                   .contentType(MediaType.APPLICATION_JSON)
+                                                   .content(json(Map.of("email", email,
+                                                                        "password", "password"))))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        return result.getResponse().getCookie("access_token").getValue();
+    }
+
+    private String mentor() throws Exception {
+        String email = nextEmail();
+        signup(email, nextPhoneNumber());
+
+        MvcResult result = mockMvc.perform(put("/api/members/role/mentor")
+                                                   .cookie(new Cookie("access_token", login(email))))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        return result.getResponse().getCookie("access_token").getValue();
+    }
+
+    private long createSession(String token) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/sessions")
+                                                   .cookie(new Cookie("access_token", token))
+                                                   .contentType(MediaType.APPLICATION_JSON)
+                                                   .content(json(Map.of("sessionType", "MENTORING",
+                                                                        "title", "title",
+                                                                        "content", "content"))))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.at("/payload/data/id").asLong();
+    }
+
+    private String json(Map<String, ?> body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private static String nextEmail() {
+        return "budget" + SEQUENCE.incrementAndGet() + "@mentalk.org";
+    }
+
+    private static String nextPhoneNumber() {
+        return "0109" + String.format("%07d", SEQUENCE.incrementAndGet());
+    }
+}
@@ -4,6 +4,7 @@ import static org.mentalk.common.enums.ErrorCode.ACCOUNT_NOT_FOUND;
 import static org.mentalk.common.enums.ErrorCode.EMAIL_NOT_FOUND;
 import static org.mentalk.common.enums.ErrorCode.INVALID_PASSWORD;
 import static org.mentalk.common.enums.ErrorCode.MEMBER_NOT_FOUND;
+import static org.mentalk.common.enums.ErrorCode.TOO_MANY_LOGIN_ATTEMPTS;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -24,6 +25,8 @@ import org.mentalk.auth.request.LocalLoginRequest;
 import org.mentalk.common.config.SecurityConfig;
 import org.mentalk.common.exception.ApiException;
 import org.mentalk.common.security.JwtUtil;
+import org.mentalk.common.security.TokenRevocationList;
+import org.mentalk.common.security.VerifiedTokenCache;
 import org.mentalk.utils.DtoFactory;
 import org.mentalk.utils.RequestFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,7 +39,7 @@ import org.springframework.test.web.servlet.ResultActions;
 
 @WebMvcTest(AuthController.class)
 @Import(SecurityConfig.class)
-@MockBean(JwtUtil.class)
+@MockBean({JwtUtil.class, VerifiedTokenCache.class, TokenRevocationList.class})
 class AuthControllerTest {
 
     @Autowired
@@ -119,6 +122,29 @@ class AuthControllerTest {
         result.andDo(print());
     }
 
+    @Test
+    @DisplayName("[로컬 로그인] 시도 횟수 초과 -> 429 응답")
+    void localLogin_whenThrottled() throws Exception {
+        // given
+        LocalLoginRequest request = RequestFactory.localLoginRequestWithDefaults();
+
+        given(authService.localLogin(any(LocalLoginDto.class)))
+                .willThrow(new ApiException(TOO_MANY_LOGIN_ATTEMPTS));
+
+        // when
+        ResultActions result = mockMvc.perform(
+                post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        );
+
+        // then
+        result.andExpect(status().isTooManyRequests());
+        result.andExpect(jsonPath("$.success").value(false));
+        result.andExpect(jsonPath("$.payload.code").value(TOO_MANY_LOGIN_ATTEMPTS.getCode()));
+        result.andDo(print());
+    }
+
     @Test
     @DisplayName("[이메일 찾기] 성공 -> 200 응답, 이메일 반환")
     void findEmail_whenSuccess() throws Exception {
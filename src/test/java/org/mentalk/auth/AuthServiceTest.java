@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -18,18 +19,21 @@ import org.mentalk.auth.domain.LocalAccount;
 import org.mentalk.auth.dto.EmailDto;
 import org.mentalk.auth.dto.JwtDto;
 import org.mentalk.auth.dto.LocalLoginDto;
+import org.mentalk.auth.dto.LoginCredentialDto;
+import org.mentalk.common.datasource.ReadYourWrites;
 import org.mentalk.common.enums.ErrorCode;
 import org.mentalk.common.enums.Role;
 import org.mentalk.common.exception.ApiException;
 import org.mentalk.common.security.JwtUtil;
+import org.mentalk.common.security.PasswordHasher;
 import org.mentalk.member.MemberRepository;
 import org.mentalk.member.domain.Member;
 import org.mentalk.utils.DtoFactory;
 import org.mentalk.utils.EntityFactory;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -41,24 +45,70 @@ class AuthServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private PasswordHashUpgrader passwordHashUpgrader;
 
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private EmailExistenceFilter emailExistenceFilter;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Spy
+    private ReadYourWrites readYourWrites = ReadYourWrites.disabled();
+
     @InjectMocks
     private AuthService authService;
 
+    @Test
+    @DisplayName("[이메일 중복 확인] 확실히 없는 이메일 -> DB 조회 없이 false 반환")
+    void isEmailExists_whenDefinitelyAbsent() {
+        // given
+        given(emailExistenceFilter.mightExist(anyString())).willReturn(false);
+
+        // when
+        boolean exists = authService.isEmailExists("user@mentalk.com");
+
+        // then
+        assertThat(exists).isFalse();
+
+        verify(localAccountRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("[이메일 중복 확인] 있을 수 있는 이메일 -> DB 조회 결과 반환")
+    void isEmailExists_whenMightExist() {
+        // given
+        given(emailExistenceFilter.mightExist(anyString())).willReturn(true);
+        given(localAccountRepository.existsByEmail(anyString())).willReturn(true);
+
+        // when
+        boolean exists = authService.isEmailExists("user@mentalk.com");
+
+        // then
+        assertThat(exists).isTrue();
+
+        verify(localAccountRepository, times(1)).existsByEmail(anyString());
+    }
+
     @Test
     @DisplayName("[로컬 로그인] 성공")
     void localLogin_whenSuccess() {
         // given
         LocalLoginDto loginDto = DtoFactory.localLoginDtoWithDefaults();
 
-        LocalAccount localAccount = EntityFactory.localAccountWithDefaults();
-        given(localAccountRepository.findByEmail(anyString())).willReturn(
-                Optional.of(localAccount));
-        given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+        LoginCredentialDto credential = DtoFactory.loginCredentialDtoWithDefaults();
+        given(localAccountRepository.findLoginCredentialByEmail(anyString())).willReturn(
+                Optional.of(credential));
+        given(passwordHasher.matches(anyString(), anyString())).willReturn(true);
 
         String token = "token";
         given(jwtUtil.createToken(anyLong(), any(Role.class))).willReturn(token);
@@ -69,26 +119,65 @@ class AuthServiceTest {
         // then
         assertThat(jwtDto.token()).isEqualTo(token);
 
-        verify(localAccountRepository, times(1)).findByEmail(anyString());
-        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+        verify(localAccountRepository, times(1)).findLoginCredentialByEmail(anyString());
+        verify(passwordHasher, times(1)).matches(anyString(), anyString());
         verify(jwtUtil, times(1)).createToken(anyLong(), any(Role.class));
     }
 
+    @Test
+    @DisplayName("[로컬 로그인] 성공 -> 해시 교체 요청")
+    void localLogin_whenSuccessRequestsHashUpgrade() {
+        // given
+        LocalLoginDto loginDto = DtoFactory.localLoginDtoWithDefaults();
+
+        LoginCredentialDto credential = DtoFactory.loginCredentialDtoWithDefaults();
+        given(localAccountRepository.findLoginCredentialByEmail(anyString())).willReturn(
+                Optional.of(credential));
+        given(passwordHasher.matches(anyString(), anyString())).willReturn(true);
+        given(jwtUtil.createToken(anyLong(), any(Role.class))).willReturn("token");
+
+        // when
+        authService.localLogin(loginDto);
+
+        // then
+        verify(passwordHashUpgrader, times(1)).upgrade(credential, loginDto.password());
+    }
+
+    @Test
+    @DisplayName("[로컬 로그인] 시도 횟수 초과 -> DB 조회, 해시 비교 없이 예외 발생")
+    void localLogin_whenThrottled() {
+        // given
+        LocalLoginDto loginDto = DtoFactory.localLoginDtoWithDefaults();
+
+        willThrow(new ApiException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS)).given(loginThrottle)
+                                                                      .acquire(anyString(),
+                                                                               anyString());
+
+        // when & then
+        assertThatThrownBy(() -> authService.localLogin(loginDto))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+
+        verify(localAccountRepository, never()).findLoginCredentialByEmail(anyString());
+        verify(passwordHasher, never()).matches(anyString(), anyString());
+    }
+
     @Test
     @DisplayName("[로컬 로그인] 이메일을 찾을 수 없는 경우 -> 예외 발생")
     void localLogin_whenEmailNotFound() {
         // given
         LocalLoginDto loginDto = DtoFactory.localLoginDtoWithDefaults();
 
-        given(localAccountRepository.findByEmail(anyString())).willReturn(Optional.empty());
+        given(localAccountRepository.findLoginCredentialByEmail(anyString())).willReturn(
+                Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> authService.localLogin(loginDto))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMAIL_NOT_FOUND);
 
-        verify(localAccountRepository, times(1)).findByEmail(anyString());
-        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(localAccountRepository, times(1)).findLoginCredentialByEmail(anyString());
+        verify(passwordHasher, never()).matches(anyString(), anyString());
         verify(jwtUtil, never()).createToken(anyLong(), any(Role.class));
     }
 
@@ -98,18 +187,18 @@ class AuthServiceTest {
         // given
         LocalLoginDto loginDto = DtoFactory.localLoginDtoWithDefaults();
 
-        LocalAccount localAccount = EntityFactory.localAccountWithDefaults();
-        given(localAccountRepository.findByEmail(anyString())).willReturn(
-                Optional.of(localAccount));
-        given(passwordEncoder.matches(anyString(), anyString())).willReturn(false);
+        LoginCredentialDto credential = DtoFactory.loginCredentialDtoWithDefaults();
+        given(localAccountRepository.findLoginCredentialByEmail(anyString())).willReturn(
+                Optional.of(credential));
+        given(passwordHasher.matches(anyString(), anyString())).willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> authService.localLogin(loginDto))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PASSWORD);
 
-        verify(localAccountRepository, times(1)).findByEmail(anyString());
-        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+        verify(localAccountRepository, times(1)).findLoginCredentialByEmail(anyString());
+        verify(passwordHasher, times(1)).matches(anyString(), anyString());
         verify(jwtUtil, never()).createToken(anyLong(), any(Role.class));
     }
 
@@ -166,4 +255,54 @@ class AuthServiceTest {
         verify(memberRepository, times(1)).findByPhoneNumber(anyString());
         verify(localAccountRepository, times(1)).findByMemberId(anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[로그아웃] 토큰 쿠키가 있는 경우 -> 토큰 폐기")
+    void logout_whenTokenGiven() {
+        // when
+        authService.logout("token");
+
+        // then
+        verify(tokenRevocationService, times(1)).revokeToken("token");
+    }
+
+    @Test
+    @DisplayName("[로그아웃] 토큰 쿠키가 없는 경우 -> 폐기 생략")
+    void logout_whenTokenAbsent() {
+        // when
+        authService.logout(null);
+
+        // then
+        verify(tokenRevocationService, never()).revokeToken(anyString());
+    }
+
+    @Test
+    @DisplayName("[비밀번호 재설정] 성공 -> id로 해시만 갱신")
+    void resetPassword_whenSuccess() {
+        // given
+        given(localAccountRepository.findIdByEmail(anyString())).willReturn(Optional.of(1L));
+        given(passwordHasher.encode(anyString())).willReturn("newHashedPassword");
+
+        // when
+        authService.resetPassword("user@mentalk.com", "newPassword");
+
+        // then
+        verify(localAccountRepository, times(1)).changeHashedPassword(1L, "newHashedPassword");
+        verify(localAccountRepository, never()).save(any(LocalAccount.class));
+    }
+
+    @Test
+    @DisplayName("[비밀번호 재설정] 계정을 찾을 수 없는 경우 -> 예외 발생")
+    void resetPassword_whenAccountNotFound() {
+        // given
+        given(localAccountRepository.findIdByEmail(anyString())).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> authService.resetPassword("user@mentalk.com", "newPassword"))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_NOT_FOUND);
+
+        verify(passwordHasher, never()).encode(anyString());
+        verify(localAccountRepository, never()).changeHashedPassword(anyLong(), anyString());
+    }
+}
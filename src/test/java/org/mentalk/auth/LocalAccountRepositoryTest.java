@@ -1,10 +1,19 @@
 package org.mentalk.auth;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import jakarta.persistence.EntityManager;
+import java.util.Optional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mentalk.auth.domain.LocalAccount;
+import org.mentalk.auth.dto.LoginCredentialDto;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.enums.Role;
+import org.mentalk.common.exception.ConstraintViolations;
 import org.mentalk.member.MemberRepository;
 import org.mentalk.member.domain.Member;
 import org.mentalk.utils.EntityFactory;
@@ -13,7 +22,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class LocalAccountRepositoryTest {
 
     @Autowired
@@ -22,6 +31,9 @@ class LocalAccountRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("[LocalAccount] NotNull 위반 -> 예외 발생")
     void whenNotNullViolation() {
@@ -30,7 +42,7 @@ class LocalAccountRepositoryTest {
                                                                Value.of(null));
 
         // when & then
-        assertThatThrownBy(() -> localAccountRepository.save(localAccount)).isInstanceOf(
+        assertThatThrownBy(() -> localAccountRepository.saveAndFlush(localAccount)).isInstanceOf(
                 DataIntegrityViolationException.class);
     }
 
@@ -51,7 +63,7 @@ class LocalAccountRepositoryTest {
         localAccountRepository.save(account1);
 
         // when & then
-        assertThatThrownBy(() -> localAccountRepository.save(account2)).isInstanceOf(
+        assertThatThrownBy(() -> localAccountRepository.saveAndFlush(account2)).isInstanceOf(
                 DataIntegrityViolationException.class);
     }
 
@@ -76,7 +88,70 @@ class LocalAccountRepositoryTest {
         localAccountRepository.save(account1);
 
         // when & then
-        assertThatThrownBy(() -> localAccountRepository.save(account2)).isInstanceOf(
-                DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> localAccountRepository.saveAndFlush(account2))
+                .isInstanceOfSatisfying(DataIntegrityViolationException.class,
+                                        e -> assertThat(ConstraintViolations.toErrorCode(e))
+                                                .isEqualTo(ErrorCode.ALREADY_EMAIL_IN_USE));
+    }
+
+    @Test
+    @DisplayName("[LocalAccount] 로그인 정보 조회 -> 엔티티 로딩 없이 쿼리 1회")
+    void findLoginCredentialByEmail_whenSingleQuery() {
+        // given
+        Member member = memberRepository.save(
+                EntityFactory.member(Value.defaults(), Value.defaults(), Value.of(Role.MENTOR)));
+        localAccountRepository.save(EntityFactory.localAccount(Value.of(member),
+                                                               Value.of("user@mentalk.com"),
+                                                               Value.of("hashedPassword")));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                                             .unwrap(SessionFactory.class)
+                                             .getStatistics();
+        statistics.clear();
+
+        // when
+        Optional<LoginCredentialDto> credential = localAccountRepository.findLoginCredentialByEmail(
+                "user@mentalk.com");
+
+        // then
+        assertThat(credential).contains(
+                new LoginCredentialDto("hashedPassword", member.getId(), Role.MENTOR));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[LocalAccount] 비밀번호 재설정 -> 엔티티 로딩 없이 id 조회와 해시 갱신만 실행")
+    void changeHashedPassword_whenTargetedUpdate() {
+        // given
+        Member member = memberRepository.save(
+                EntityFactory.member(Value.defaults(), Value.defaults(), Value.defaults()));
+        LocalAccount localAccount = localAccountRepository.save(
+                EntityFactory.localAccount(Value.of(member), Value.of("user@mentalk.com"),
+                                           Value.of("hashedPassword")));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                                             .unwrap(SessionFactory.class)
+                                             .getStatistics();
+        statistics.clear();
+
+        // when
+        Long localAccountId = localAccountRepository.findIdByEmail("user@mentalk.com")
+                                                    .orElseThrow();
+        int updated = localAccountRepository.changeHashedPassword(localAccountId,
+                                                                  "newHashedPassword");
+
+        // then
+        assertThat(localAccountId).isEqualTo(localAccount.getId());
+        assertThat(updated).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(localAccountRepository.findLoginCredentialByEmail("user@mentalk.com"))
+                .map(LoginCredentialDto::hashedPassword)
+                .contains("newHashedPassword");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,109 @@
+package org.mentalk.auth;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.auth.LoginThrottle.Limit;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.exception.ApiException;
+
+class LoginThrottleTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final LoginThrottle loginThrottle = new LoginThrottle(
+            new SimpleMeterRegistry(),
+            Limit.of(3, Duration.ofSeconds(60)),
+            Limit.of(5, Duration.ofSeconds(60)),
+            1000,
+            now::get);
+
+    @Test
+    @DisplayName("[로그인 제한] 같은 이메일로 허용량 초과 -> 예외 발생")
+    void acquire_whenEmailLimitExceeded() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire("user@mentalk.com", "10.0.0." + i);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> loginThrottle.acquire("USER@mentalk.com", "10.0.0.9"))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("[로그인 제한] 같은 IP로 허용량 초과 -> 예외 발생")
+    void acquire_whenIpLimitExceeded() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.acquire("user" + i + "@mentalk.com", "10.0.0.1");
+        }
+
+        // when & then
+        assertThatThrownBy(() -> loginThrottle.acquire("other@mentalk.com", "10.0.0.1"))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("[로그인 제한] 이메일 제한에 걸린 시도 -> 같은 IP의 토큰을 쓰지 않음")
+    void acquire_whenEmailThrottledKeepsIpTokens() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire("user@mentalk.com", "10.0.0.1");
+        }
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> loginThrottle.acquire("user@mentalk.com", "10.0.0.1"))
+                    .isInstanceOf(ApiException.class);
+        }
+
+        // when & then
+        assertThatCode(() -> loginThrottle.acquire("other@mentalk.com", "10.0.0.1"))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> loginThrottle.acquire("another@mentalk.com", "10.0.0.1"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("[로그인 제한] IP 제한에 걸린 시도 -> 다른 사람의 이메일 토큰을 쓰지 않음")
+    void acquire_whenIpThrottledKeepsEmailTokens() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.acquire("user" + i + "@mentalk.com", "10.0.0.1");
+        }
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> loginThrottle.acquire("victim@mentalk.com", "10.0.0.1"))
+                    .isInstanceOf(ApiException.class);
+        }
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThatCode(() -> loginThrottle.acquire("victim@mentalk.com", "10.0.0.2"))
+                    .doesNotThrowAnyException();
+        }
+    }
+
+    @Test
+    @DisplayName("[로그인 제한] 시간이 지나면 -> 토큰이 다시 채워짐")
+    void acquire_whenRefilled() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire("user@mentalk.com", "10.0.0.1");
+        }
+
+        // when
+        now.addAndGet(Duration.ofSeconds(20).toNanos());
+
+        // then
+        assertThatCode(() -> loginThrottle.acquire("user@mentalk.com", "10.0.0.1"))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> loginThrottle.acquire("user@mentalk.com", "10.0.0.1"))
+                .isInstanceOf(ApiException.class);
+    }
+}
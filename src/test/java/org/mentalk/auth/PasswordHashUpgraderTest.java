@@ -0,0 +1,74 @@
+package org.mentalk.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.auth.dto.LoginCredentialDto;
+import org.mentalk.common.security.PasswordHasher;
+import org.mentalk.utils.DtoFactory;
+
+class PasswordHashUpgraderTest {
+
+    private final PasswordHasher passwordHasher = mock(PasswordHasher.class);
+    private final LocalAccountRepository localAccountRepository = mock(
+            LocalAccountRepository.class);
+    private final PasswordHashUpgrader passwordHashUpgrader = new PasswordHashUpgrader(
+            passwordHasher, localAccountRepository, 1, 16);
+
+    @AfterEach
+    void tearDown() {
+        passwordHashUpgrader.shutdown();
+    }
+
+    @Test
+    @DisplayName("[해시 교체] 오래된 해시 -> 해시 스레드가 아닌 별도 스레드에서 새 해시로 교체")
+    void upgrade_whenHashNeedsUpgrade() {
+        // given
+        LoginCredentialDto credential = DtoFactory.loginCredentialDtoWithDefaults();
+        given(passwordHasher.needsUpgrade(anyString())).willReturn(true);
+        given(passwordHasher.encodeAsync(anyString())).willReturn(
+                CompletableFuture.completedFuture("upgradedPassword"));
+
+        CompletableFuture<String> writerThread = new CompletableFuture<>();
+        given(localAccountRepository.updateHashedPassword(credential.memberId(), "hashedPassword",
+                                                          "upgradedPassword"))
+                .willAnswer(invocation -> {
+                    writerThread.complete(Thread.currentThread().getName());
+                    return 1;
+                });
+
+        // when
+        passwordHashUpgrader.upgrade(credential, "password");
+
+        // then
+        assertThat(writerThread).succeedsWithin(Duration.ofSeconds(1))
+                                .asString()
+                                .startsWith("password-upgrade-");
+    }
+
+    @Test
+    @DisplayName("[해시 교체] 최신 해시 -> 교체하지 않음")
+    void upgrade_whenHashIsCurrent() {
+        // given
+        LoginCredentialDto credential = DtoFactory.loginCredentialDtoWithDefaults();
+        given(passwordHasher.needsUpgrade(anyString())).willReturn(false);
+
+        // when
+        passwordHashUpgrader.upgrade(credential, "password");
+
+        // then
+        verify(passwordHasher, never()).encodeAsync(anyString());
+        verify(localAccountRepository, never()).updateHashedPassword(anyLong(), anyString(),
+                                                                     anyString());
+    }
+}
@@ -0,0 +1,76 @@
+package org.mentalk.auth;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.security.JwtUtil;
+import org.mentalk.common.security.TokenRevocationList;
+import org.mentalk.common.security.VerifiedTokenCache;
+import org.mentalk.common.sync.CreatedTimePollers;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TokenRevocationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final TokenRevocationRepository tokenRevocationRepository = mock(
+            TokenRevocationRepository.class);
+    private final TokenRevocationList tokenRevocationList = mock(TokenRevocationList.class);
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final TokenRevocationService tokenRevocationService = new TokenRevocationService(
+            tokenRevocationRepository, tokenRevocationList, mock(VerifiedTokenCache.class), jwtUtil,
+            new CreatedTimePollers(60), 1000);
+
+    @BeforeEach
+    void setUp() {
+        given(jwtUtil.getTokenTtl()).willReturn(Duration.ofDays(1));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("[토큰 폐기] 회원 전체 폐기 -> 커밋 후에 로컬 목록에 반영")
+    void revokeAllBefore_whenCommitted() {
+        // given
+        tokenRevocationService.revokeAllBefore(1L, NOW);
+        verify(tokenRevocationList, never()).revokeAllBefore(anyLong(), any(), any());
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                                         .forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        verify(tokenRevocationList).revokeAllBefore(eq(1L), eq(NOW), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("[토큰 폐기] 회원 전체 폐기 후 롤백 -> 로컬 목록에 반영하지 않음")
+    void revokeAllBefore_whenRolledBack() {
+        // given
+        tokenRevocationService.revokeAllBefore(1L, NOW);
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                                         .forEach(synchronization -> synchronization.afterCompletion(
+                                                 TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(tokenRevocationList, never()).revokeAllBefore(anyLong(), any(), any());
+    }
+}
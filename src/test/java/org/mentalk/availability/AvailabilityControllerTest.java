@@ -0,0 +1,161 @@
+package org.mentalk.availability;
+
+import static org.mentalk.common.enums.ErrorCode.FORBIDDEN;
+import static org.mentalk.common.enums.ErrorCode.METHOD_ARG_NOT_VALID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.annotation.WithCustomMockMentor;
+import org.mentalk.annotation.WithCustomMockUser;
+import org.mentalk.availability.dto.AvailabilityWindowDto;
+import org.mentalk.availability.dto.AvailabilityWindowIdDto;
+import org.mentalk.availability.dto.FreeSlotDto;
+import org.mentalk.availability.dto.FreeSlotQueryDto;
+import org.mentalk.availability.dto.SlotBookingDto;
+import org.mentalk.availability.dto.SlotBookingIdDto;
+import org.mentalk.availability.request.AvailabilityWindowCreateRequest;
+import org.mentalk.availability.request.SlotBookingRequest;
+import org.mentalk.common.config.SecurityConfig;
+import org.mentalk.common.enums.SessionType;
+import org.mentalk.common.security.JwtUtil;
+import org.mentalk.common.security.TokenRevocationList;
+import org.mentalk.common.security.VerifiedTokenCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@WebMvcTest(AvailabilityController.class)
+@Import(SecurityConfig.class)
+@MockBean({JwtUtil.class, VerifiedTokenCache.class, TokenRevocationList.class})
+class AvailabilityControllerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2099, 1, 1, 9, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private AvailabilityService availabilityService;
+
+    @Test
+    @WithCustomMockMentor
+    @DisplayName("[시간 공개] 멘토 회원일 때 성공 -> 200 응답")
+    void publishWindow_whenMemberIsMentor() throws Exception {
+        // given
+        AvailabilityWindowCreateRequest request = new AvailabilityWindowCreateRequest(
+                SessionType.MENTORING, START, START.plusHours(3));
+        given(availabilityService.publishWindow(any(AvailabilityWindowDto.class))).willReturn(
+                AvailabilityWindowIdDto.of(5L));
+
+        // when
+        ResultActions result = mockMvc.perform(
+                post("/api/availability")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        );
+
+        // then
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.success").value(true));
+        result.andExpect(jsonPath("$.payload.data.id").value(5));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[시간 공개] 일반 회원일 때 실패 -> 403 응답")
+    void publishWindow_whenMemberIsUser() throws Exception {
+        // given
+        AvailabilityWindowCreateRequest request = new AvailabilityWindowCreateRequest(
+                SessionType.MENTORING, START, START.plusHours(3));
+
+        // when
+        ResultActions result = mockMvc.perform(
+                post("/api/availability")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        );
+
+        // then
+        result.andExpect(status().isForbidden());
+        result.andExpect(jsonPath("$.success").value(false));
+        result.andExpect(jsonPath("$.payload.code").value(FORBIDDEN.getCode()));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[슬롯 예약] 성공 -> 200 응답, 예약 id 반환")
+    void bookSlot_whenSuccess() throws Exception {
+        // given
+        SlotBookingRequest request = new SlotBookingRequest(START, START.plusHours(1));
+        given(availabilityService.bookSlot(any(SlotBookingDto.class))).willReturn(
+                SlotBookingIdDto.of(7L));
+
+        // when
+        ResultActions result = mockMvc.perform(
+                post("/api/availability/{windowId}/bookings", 5L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        );
+
+        // then
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.payload.data.id").value(7));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[빈 시간 조회] 성공 -> 200 응답, 빈 시간 목록 반환")
+    void findFreeSlots_whenSuccess() throws Exception {
+        // given
+        given(availabilityService.findFreeSlots(any(FreeSlotQueryDto.class))).willReturn(
+                List.of(new FreeSlotDto(1L, 5L, SessionType.COFFEE_CHAT, START,
+                                        START.plusHours(1))));
+
+        // when
+        ResultActions result = mockMvc.perform(
+                get("/api/availability/slots")
+                        .param("from", "2099-01-01T00:00:00")
+                        .param("to", "2099-01-02T00:00:00")
+                        .param("sessionType", "COFFEE_CHAT")
+        );
+
+        // then
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.payload.data[0].mentorId").value(1));
+        result.andExpect(jsonPath("$.payload.data[0].windowId").value(5));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[빈 시간 조회] 조회 범위 누락 -> 400 응답")
+    void findFreeSlots_whenRangeMissing() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(get("/api/availability/slots"));
+
+        // then
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.payload.code").value(METHOD_ARG_NOT_VALID.getCode()));
+        result.andDo(print());
+    }
+}
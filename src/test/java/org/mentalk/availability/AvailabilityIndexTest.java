@@ -0,0 +1,122 @@
+package org.mentalk.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.availability.dto.AvailabilityWindowDetailDto;
+import org.mentalk.availability.dto.FreeSlotDto;
+import org.mentalk.availability.dto.FreeSlotQueryDto;
+import org.mentalk.availability.dto.SlotBookingDetailDto;
+import org.mentalk.common.enums.SessionType;
+
+class AvailabilityIndexTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2099, 1, 1, 0, 0);
+
+    private final AvailabilityIndex availabilityIndex = new AvailabilityIndex();
+
+    @Test
+    @DisplayName("[빈 시간 조회] 예약된 시간 -> 공개 구간에서 빼고 남은 틈만 반환")
+    void findFreeSlots_whenBooked() {
+        // given
+        availabilityIndex.addWindow(window(1L, 10L, SessionType.MENTORING, 9, 12));
+        availabilityIndex.addBooking(booking(1L, 1L, 10L, 10, 11));
+
+        // when
+        List<FreeSlotDto> slots = availabilityIndex.findFreeSlots(query(0, 24, null, 30));
+
+        // then
+        assertThat(slots).extracting(FreeSlotDto::startTime)
+                         .containsExactly(at(9), at(11));
+        assertThat(slots).extracting(FreeSlotDto::endTime)
+                         .containsExactly(at(10), at(12));
+    }
+
+    @Test
+    @DisplayName("[빈 시간 조회] 조회 범위와 최소 길이 -> 범위로 자르고 짧은 틈은 제외")
+    void findFreeSlots_whenClippedAndTooShort() {
+        // given
+        availabilityIndex.addWindow(window(1L, 10L, SessionType.MENTORING, 9, 12));
+        availabilityIndex.addWindow(window(2L, 20L, SessionType.COFFEE_CHAT, 13, 14));
+        availabilityIndex.addBooking(
+                new SlotBookingDetailDto(1L, 2L, 20L, at(13).plusMinutes(10), at(14)));
+
+        // when
+        List<FreeSlotDto> slots = availabilityIndex.findFreeSlots(query(10, 14, null, 30));
+
+        // then
+        assertThat(slots).extracting(FreeSlotDto::mentorId).containsExactly(10L);
+        assertThat(slots.get(0).startTime()).isEqualTo(at(10));
+        assertThat(slots.get(0).endTime()).isEqualTo(at(12));
+    }
+
+    @Test
+    @DisplayName("[빈 시간 조회] 세션 종류 지정 -> 해당 종류의 공개 구간만 반환")
+    void findFreeSlots_whenSessionTypeGiven() {
+        // given
+        availabilityIndex.addWindow(window(1L, 10L, SessionType.MENTORING, 9, 10));
+        availabilityIndex.addWindow(window(2L, 20L, SessionType.COFFEE_CHAT, 9, 10));
+
+        // when
+        List<FreeSlotDto> slots = availabilityIndex.findFreeSlots(
+                query(0, 24, SessionType.COFFEE_CHAT, 30));
+
+        // then
+        assertThat(slots).extracting(FreeSlotDto::windowId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("[빈 시간 조회] 다른 멘토의 예약 -> 빈 시간에 영향 없음")
+    void findFreeSlots_whenOtherMentorBooked() {
+        // given
+        availabilityIndex.addWindow(window(1L, 10L, SessionType.MENTORING, 9, 10));
+        availabilityIndex.addBooking(booking(1L, 2L, 20L, 9, 10));
+
+        // when
+        List<FreeSlotDto> slots = availabilityIndex.findFreeSlots(query(0, 24, null, 30));
+
+        // then
+        assertThat(slots).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("[인덱스 정리] 끝난 공개 구간과 예약 -> 제거")
+    void removeEndedBefore() {
+        // given
+        availabilityIndex.addWindow(window(1L, 10L, SessionType.MENTORING, 9, 10));
+        availabilityIndex.addWindow(window(2L, 10L, SessionType.MENTORING, 11, 12));
+        availabilityIndex.addBooking(booking(1L, 1L, 10L, 9, 10));
+
+        // when
+        int removed = availabilityIndex.removeEndedBefore(at(10));
+
+        // then
+        assertThat(removed).isEqualTo(2);
+        assertThat(availabilityIndex.windowCount()).isEqualTo(1);
+    }
+
+    private AvailabilityWindowDetailDto window(Long id, Long mentorId, SessionType sessionType,
+                                               int startHour, int endHour) {
+        return new AvailabilityWindowDetailDto(id, mentorId, sessionType, at(startHour),
+                                               at(endHour));
+    }
+
+    private SlotBookingDetailDto booking(Long id, Long windowId, Long mentorId, int startHour,
+                                         int endHour) {
+        return new SlotBookingDetailDto(id, windowId, mentorId, at(startHour), at(endHour));
+    }
+
+    private FreeSlotQueryDto query(int fromHour, int toHour, SessionType sessionType,
+                                   int minMinutes) {
+        return new FreeSlotQueryDto(at(fromHour), at(toHour), sessionType,
+                                    Duration.ofMinutes(minMinutes), 100);
+    }
+
+    private LocalDateTime at(int hour) {
+        return DAY.plusHours(hour);
+    }
+}
@@ -0,0 +1,192 @@
+package org.mentalk.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mentalk.availability.domain.AvailabilityWindow;
+import org.mentalk.availability.domain.SlotBooking;
+import org.mentalk.availability.dto.AvailabilityWindowDetailDto;
+import org.mentalk.availability.dto.AvailabilityWindowDto;
+import org.mentalk.availability.dto.AvailabilityWindowIdDto;
+import org.mentalk.availability.dto.AvailabilityWindowPublishedEvent;
+import org.mentalk.availability.dto.FreeSlotQueryDto;
+import org.mentalk.availability.dto.SlotBookedEvent;
+import org.mentalk.availability.dto.SlotBookingDto;
+import org.mentalk.availability.dto.SlotBookingIdDto;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.enums.SessionType;
+import org.mentalk.common.exception.ApiException;
+import org.mentalk.member.MemberRepository;
+import org.mentalk.utils.EntityFactory;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2099, 1, 1, 9, 0);
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private AvailabilityWindowRepository availabilityWindowRepository;
+
+    @Mock
+    private SlotBookingRepository slotBookingRepository;
+
+    @Mock
+    private AvailabilityIndex availabilityIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AvailabilityService availabilityService;
+
+    private final AvailabilityWindowDto windowDto = new AvailabilityWindowDto(
+            1L, SessionType.MENTORING, START, START.plusHours(3));
+
+    private final AvailabilityWindowDetailDto window = new AvailabilityWindowDetailDto(
+            5L, 1L, SessionType.MENTORING, START, START.plusHours(3));
+
+    @Test
+    @DisplayName("[시간 공개] 성공 -> 공개 구간 id 반환, 인덱스 반영 이벤트 발행")
+    void publishWindow_whenSuccess() {
+        // given
+        given(memberRepository.findByIdForUpdate(1L)).willReturn(
+                Optional.of(EntityFactory.mentorWithDefaults()));
+        given(availabilityWindowRepository.existsOverlapping(1L, START, START.plusHours(3)))
+                .willReturn(false);
+        given(availabilityWindowRepository.save(any(AvailabilityWindow.class))).willReturn(
+                AvailabilityWindow.builder()
+                                  .id(5L)
+                                  .mentor(EntityFactory.mentorWithDefaults())
+                                  .sessionType(SessionType.MENTORING)
+                                  .startTime(START)
+                                  .endTime(START.plusHours(3))
+                                  .build());
+
+        // when
+        AvailabilityWindowIdDto windowIdDto = availabilityService.publishWindow(windowDto);
+
+        // then
+        assertThat(windowIdDto.id()).isEqualTo(5L);
+
+        verify(eventPublisher).publishEvent(AvailabilityWindowPublishedEvent.of(window));
+    }
+
+    @Test
+    @DisplayName("[시간 공개] 기존 공개 구간과 겹침 -> 예외 발생, 저장 없음")
+    void publishWindow_whenOverlapping() {
+        // given
+        given(memberRepository.findByIdForUpdate(1L)).willReturn(
+                Optional.of(EntityFactory.mentorWithDefaults()));
+        given(availabilityWindowRepository.existsOverlapping(1L, START, START.plusHours(3)))
+                .willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> availabilityService.publishWindow(windowDto))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AVAILABILITY_OVERLAP);
+
+        verify(availabilityWindowRepository, never()).save(any(AvailabilityWindow.class));
+    }
+
+    @Test
+    @DisplayName("[시간 공개] 종료 시각이 시작 시각보다 이름 -> 예외 발생")
+    void publishWindow_whenEndBeforeStart() {
+        // given
+        AvailabilityWindowDto reversed = new AvailabilityWindowDto(1L, SessionType.MENTORING,
+                                                                   START, START.minusHours(1));
+
+        // when & then
+        assertThatThrownBy(() -> availabilityService.publishWindow(reversed))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TIME_RANGE);
+    }
+
+    @Test
+    @DisplayName("[슬롯 예약] 성공 -> 예약 id 반환, 인덱스 반영 이벤트 발행")
+    void bookSlot_whenSuccess() {
+        // given
+        SlotBookingDto bookingDto = new SlotBookingDto(5L, 2L, START.plusHours(1),
+                                                       START.plusHours(2));
+        given(availabilityWindowRepository.findDetailById(5L)).willReturn(Optional.of(window));
+        given(memberRepository.findByIdForUpdate(1L)).willReturn(
+                Optional.of(EntityFactory.mentorWithDefaults()));
+        given(slotBookingRepository.existsOverlapping(1L, START.plusHours(1), START.plusHours(2)))
+                .willReturn(false);
+        given(slotBookingRepository.save(any(SlotBooking.class))).willReturn(
+                SlotBooking.builder().id(7L).build());
+
+        // when
+        SlotBookingIdDto bookingIdDto = availabilityService.bookSlot(bookingDto);
+
+        // then
+        assertThat(bookingIdDto.id()).isEqualTo(7L);
+
+        verify(eventPublisher).publishEvent(any(SlotBookedEvent.class));
+    }
+
+    @Test
+    @DisplayName("[슬롯 예약] 공개 구간을 벗어남 -> 예외 발생")
+    void bookSlot_whenOutsideWindow() {
+        // given
+        SlotBookingDto bookingDto = new SlotBookingDto(5L, 2L, START.plusHours(2),
+                                                       START.plusHours(4));
+        given(availabilityWindowRepository.findDetailById(5L)).willReturn(Optional.of(window));
+
+        // when & then
+        assertThatThrownBy(() -> availabilityService.bookSlot(bookingDto))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SLOT_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("[슬롯 예약] 이미 예약된 시간과 겹침 -> 예외 발생, 저장 없음")
+    void bookSlot_whenAlreadyBooked() {
+        // given
+        SlotBookingDto bookingDto = new SlotBookingDto(5L, 2L, START.plusHours(1),
+                                                       START.plusHours(2));
+        given(availabilityWindowRepository.findDetailById(5L)).willReturn(Optional.of(window));
+        given(memberRepository.findByIdForUpdate(1L)).willReturn(
+                Optional.of(EntityFactory.mentorWithDefaults()));
+        given(slotBookingRepository.existsOverlapping(1L, START.plusHours(1), START.plusHours(2)))
+                .willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> availabilityService.bookSlot(bookingDto))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SLOT_UNAVAILABLE);
+
+        verify(slotBookingRepository, never()).save(any(SlotBooking.class));
+    }
+
+    @Test
+    @DisplayName("[빈 시간 조회] 조회 범위가 너무 김 -> 예외 발생, 인덱스 조회 없음")
+    void findFreeSlots_whenRangeTooLong() {
+        // given
+        FreeSlotQueryDto queryDto = new FreeSlotQueryDto(START, START.plusDays(60), null,
+                                                         Duration.ofMinutes(30), 100);
+
+        // when & then
+        assertThatThrownBy(() -> availabilityService.findFreeSlots(queryDto))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TIME_RANGE);
+
+        verify(availabilityIndex, never()).findFreeSlots(any(FreeSlotQueryDto.class));
+    }
+}
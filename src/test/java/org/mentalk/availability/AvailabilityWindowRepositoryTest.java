@@ -0,0 +1,116 @@
+package org.mentalk.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.availability.domain.AvailabilityWindow;
+import org.mentalk.availability.dto.AvailabilityWindowDetailDto;
+import org.mentalk.common.config.JpaAuditingConfig;
+import org.mentalk.common.enums.Role;
+import org.mentalk.common.enums.SessionType;
+import org.mentalk.member.MemberRepository;
+import org.mentalk.member.domain.Member;
+import org.mentalk.utils.EntityFactory;
+import org.mentalk.utils.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+class AvailabilityWindowRepositoryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2099, 1, 1, 9, 0);
+
+    @Autowired
+    private AvailabilityWindowRepository availabilityWindowRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("[공개 구간] 겹침 검사 -> 맞닿은 구간은 겹치지 않음")
+    void existsOverlapping_whenAdjacent() {
+        // given
+        Member mentor = memberRepository.save(
+                EntityFactory.member(Value.of("mentor"), Value.defaults(), Value.of(Role.MENTOR)));
+        availabilityWindowRepository.save(window(mentor, START, START.plusHours(2)));
+
+        // when & then
+        assertThat(availabilityWindowRepository.existsOverlapping(
+                mentor.getId(), START.plusHours(2), START.plusHours(3))).isFalse();
+        assertThat(availabilityWindowRepository.existsOverlapping(
+                mentor.getId(), START.plusHours(1), START.plusHours(3))).isTrue();
+        assertThat(availabilityWindowRepository.existsOverlapping(
+                mentor.getId() + 1, START, START.plusHours(2))).isFalse();
+    }
+
+    @Test
+    @DisplayName("[공개 구간] 인덱스 적재 조회 -> 이미 끝난 구간 제외, id 순 반환")
+    void findDetailsAfter_whenEnded() {
+        // given
+        Member mentor = memberRepository.save(
+                EntityFactory.member(Value.of("mentor"), Value.defaults(), Value.of(Role.MENTOR)));
+        AvailabilityWindow ended = availabilityWindowRepository.save(
+                window(mentor, START.minusDays(1), START.minusDays(1).plusHours(1)));
+        AvailabilityWindow first = availabilityWindowRepository.save(
+                window(mentor, START, START.plusHours(1)));
+        AvailabilityWindow second = availabilityWindowRepository.save(
+                window(mentor, START.plusHours(2), START.plusHours(3)));
+
+        // when
+        List<AvailabilityWindowDetailDto> details = availabilityWindowRepository.findDetailsAfter(
+                0L, START.minusHours(1), PageRequest.ofSize(10));
+
+        // then
+        assertThat(details).extracting(AvailabilityWindowDetailDto::id)
+                           .containsExactly(first.getId(), second.getId())
+                           .doesNotContain(ended.getId());
+        assertThat(details).extracting(AvailabilityWindowDetailDto::mentorId)
+                           .containsOnly(mentor.getId());
+    }
+
+    @Test
+    @DisplayName("[공개 구간] 동기화 조회 -> 기준 시각 이후 생성되고 끝나지 않은 구간만 id 순 반환")
+    void findDetailsCreatedSince_whenEndedOrCreatedBefore() {
+        // given
+        Member mentor = memberRepository.save(
+                EntityFactory.member(Value.of("mentor"), Value.defaults(), Value.of(Role.MENTOR)));
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        AvailabilityWindow ended = availabilityWindowRepository.save(
+                window(mentor, START.minusDays(1), START.minusDays(1).plusHours(1)));
+        AvailabilityWindow first = availabilityWindowRepository.save(
+                window(mentor, START, START.plusHours(1)));
+        AvailabilityWindow second = availabilityWindowRepository.save(
+                window(mentor, START.plusHours(2), START.plusHours(3)));
+
+        // when
+        List<AvailabilityWindowDetailDto> details =
+                availabilityWindowRepository.findDetailsCreatedSince(
+                        since, 0L, START.minusHours(1), PageRequest.ofSize(10));
+        List<AvailabilityWindowDetailDto> later =
+                availabilityWindowRepository.findDetailsCreatedSince(
+                        LocalDateTime.now().plusMinutes(1), 0L, START.minusHours(1),
+                        PageRequest.ofSize(10));
+
+        // then
+        assertThat(details).extracting(AvailabilityWindowDetailDto::id)
+                           .containsExactly(first.getId(), second.getId())
+                           .doesNotContain(ended.getId());
+        assertThat(later).isEmpty();
+    }
+
+    private AvailabilityWindow window(Member mentor, LocalDateTime startTime,
+                                      LocalDateTime endTime) {
+        return AvailabilityWindow.builder()
+                                 .mentor(mentor)
+                                 .sessionType(SessionType.COFFEE_CHAT)
+                                 .startTime(startTime)
+                                 .endTime(endTime)
+                                 .build();
+    }
+}
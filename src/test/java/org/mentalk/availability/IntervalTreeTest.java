@@ -0,0 +1,88 @@
+package org.mentalk.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IntervalTreeTest {
+
+    private final IntervalTree<Long> tree = new IntervalTree<>();
+
+    @Test
+    @DisplayName("[구간 트리] 겹침 조회 -> 반열린 구간 기준으로 시작 시각 순 반환")
+    void forEachOverlapping_whenHalfOpen() {
+        // given
+        tree.insert(10, 20, 1, 1L);
+        tree.insert(20, 30, 2, 2L);
+        tree.insert(0, 10, 3, 3L);
+        tree.insert(5, 25, 4, 4L);
+
+        // when
+        List<Long> found = new ArrayList<>();
+        tree.forEachOverlapping(10, 20, found::add);
+
+        // then
+        assertThat(found).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("[구간 트리] 무작위 삽입과 삭제 -> 전수 비교와 같은 결과")
+    void forEachOverlapping_whenRandomized() {
+        // given
+        Random random = new Random(42);
+        List<long[]> expected = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(200);
+            tree.insert(start, end, id, id);
+            expected.add(new long[]{start, end, id});
+        }
+        for (int i = 0; i < 500; i++) {
+            long[] removed = expected.remove(random.nextInt(expected.size()));
+            assertThat(tree.remove(removed[0], removed[2])).isTrue();
+        }
+
+        for (int i = 0; i < 200; i++) {
+            long from = random.nextInt(10_000);
+            long to = from + 1 + random.nextInt(500);
+
+            // when
+            List<Long> found = new ArrayList<>();
+            tree.forEachOverlapping(from, to, found::add);
+
+            // then
+            List<Long> bruteForce = expected.stream()
+                                            .filter(interval -> interval[0] < to
+                                                                && interval[1] > from)
+                                            .sorted((a, b) -> a[0] != b[0]
+                                                              ? Long.compare(a[0], b[0])
+                                                              : Long.compare(a[2], b[2]))
+                                            .map(interval -> interval[2])
+                                            .toList();
+            assertThat(found).containsExactlyElementsOf(bruteForce);
+        }
+        assertThat(tree.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @DisplayName("[구간 트리] 끝난 구간 제거 -> 이후에 끝나는 구간만 남음")
+    void removeEndedBefore() {
+        // given
+        tree.insert(0, 10, 1, 1L);
+        tree.insert(5, 15, 2, 2L);
+        tree.insert(20, 30, 3, 3L);
+
+        // when
+        int removed = tree.removeEndedBefore(15);
+
+        // then
+        List<Long> remaining = new ArrayList<>();
+        tree.forEachOverlapping(Long.MIN_VALUE, Long.MAX_VALUE, remaining::add);
+        assertThat(removed).isEqualTo(2);
+        assertThat(remaining).containsExactly(3L);
+    }
+}
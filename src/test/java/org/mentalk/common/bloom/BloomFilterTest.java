@@ -0,0 +1,39 @@
+package org.mentalk.common.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("[블룸 필터] 추가한 값 -> 항상 포함으로 판단")
+    void mightContain_whenAdded() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.put("user" + i + "@mentalk.com"));
+
+        // when & then
+        assertThat(IntStream.range(0, 10_000))
+                .allMatch(i -> bloomFilter.mightContain("user" + i + "@mentalk.com"));
+    }
+
+    @Test
+    @DisplayName("[블룸 필터] 추가하지 않은 값 -> 오탐률이 목표 근처")
+    void mightContain_whenAbsent() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.put("user" + i + "@mentalk.com"));
+
+        // when
+        long falsePositives = IntStream.range(0, 100_000)
+                                       .filter(i -> bloomFilter.mightContain(
+                                               "absent" + i + "@mentalk.com"))
+                                       .count();
+
+        // then
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
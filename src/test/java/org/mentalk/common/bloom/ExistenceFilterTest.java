@@ -0,0 +1,94 @@
+package org.mentalk.common.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.sync.CreatedTimePollers;
+import org.springframework.data.domain.Pageable;
+
+class ExistenceFilterTest {
+
+    private final InMemoryExistenceFilter existenceFilter = new InMemoryExistenceFilter();
+
+    @Test
+    @DisplayName("[존재 필터] 워밍업 전 -> 항상 있을 수 있음으로 판단")
+    void mightExist_whenNotReady() {
+        // when & then
+        assertThat(existenceFilter.mightExist("user@mentalk.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("[존재 필터] 워밍업 후 다른 인스턴스가 추가한 값 -> 동기화 후 있을 수 있음으로 판단")
+    void sync_whenAddedElsewhere() {
+        // given
+        existenceFilter.insert(1L, "user@mentalk.com", LocalDateTime.now());
+        existenceFilter.warmUp();
+        existenceFilter.insert(2L, "other@mentalk.com", LocalDateTime.now());
+
+        // when
+        existenceFilter.sync();
+
+        // then
+        assertThat(existenceFilter.mightExist("user@mentalk.com")).isTrue();
+        assertThat(existenceFilter.mightExist("other@mentalk.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("[존재 필터] 워밍업 후 더 작은 id로 추가된 값 -> 생성 시각 기준으로 가져옴")
+    void sync_whenAddedWithLowerId() {
+        // given
+        existenceFilter.insert(100L, "user@mentalk.com", LocalDateTime.now());
+        existenceFilter.warmUp();
+        existenceFilter.insert(51L, "other@mentalk.com", LocalDateTime.now());
+
+        // when
+        existenceFilter.sync();
+
+        // then
+        assertThat(existenceFilter.mightExist("other@mentalk.com")).isTrue();
+    }
+
+    private static class InMemoryExistenceFilter extends ExistenceFilter {
+
+        private final List<Row> rows = new ArrayList<>();
+
+        InMemoryExistenceFilter() {
+            super("test", new SimpleMeterRegistry(), 1000, 0.01, 1, new CreatedTimePollers(60));
+        }
+
+        void insert(Long id, String value, LocalDateTime createdTime) {
+            rows.add(new Row(new ExistenceKey(id, value), createdTime));
+        }
+
+        @Override
+        protected List<ExistenceKey> findKeysAfter(long afterId, Pageable pageable) {
+            return rows.stream()
+                       .map(Row::key)
+                       .filter(key -> key.id() > afterId)
+                       .sorted(Comparator.comparing(ExistenceKey::id))
+                       .limit(pageable.getPageSize())
+                       .toList();
+        }
+
+        @Override
+        protected List<ExistenceKey> findKeysCreatedSince(LocalDateTime since, long afterId,
+                                                          Pageable pageable) {
+            return rows.stream()
+                       .filter(row -> !row.createdTime().isBefore(since))
+                       .map(Row::key)
+                       .filter(key -> key.id() > afterId)
+                       .sorted(Comparator.comparing(ExistenceKey::id))
+                       .limit(pageable.getPageSize())
+                       .toList();
+        }
+
+        private record Row(ExistenceKey key, LocalDateTime createdTime) {
+        }
+    }
+}
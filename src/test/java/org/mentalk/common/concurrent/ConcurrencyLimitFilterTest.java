@@ -0,0 +1,69 @@
+package org.mentalk.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.enums.ErrorCode;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 10);
+
+    @Test
+    @DisplayName("[동시 요청 제한] 허용량 이내 -> 요청 처리 후 허용량 반환")
+    void doFilter_whenPermitAvailable() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        FilterChain chain = (request, response) -> calls.incrementAndGet();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/sessions"),
+                        new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(calls).hasValue(1);
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[동시 요청 제한] 허용량 초과 -> 503 응답")
+    void doFilter_whenPermitsExhausted() throws Exception {
+        // given
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        FilterChain chain = (request, response) -> filter.doFilter(
+                new MockHttpServletRequest("GET", "/api/sessions"), rejected,
+                (innerRequest, innerResponse) -> {
+                });
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/sessions"),
+                        new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getContentAsString()).contains(ErrorCode.SERVER_BUSY.getCode());
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[동시 요청 제한] actuator 요청 -> 제한 없이 처리")
+    void doFilter_whenActuatorRequest() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        FilterChain chain = (request, response) -> filter.doFilter(
+                new MockHttpServletRequest("GET", "/actuator/health"),
+                new MockHttpServletResponse(), (inner, innerResponse) -> calls.incrementAndGet());
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/sessions"),
+                        new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(calls).hasValue(1);
+    }
+}
@@ -0,0 +1,66 @@
+package org.mentalk.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MetricsConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new MetricsConfig().latencyDistributionFilter());
+    }
+
+    @Test
+    @DisplayName("[메트릭] 로그인 요청 타이머 -> SLO 버킷 기록")
+    void latencyDistributionFilter_whenLoginRoute() {
+        // given
+        Timer timer = Timer.builder("http.server.requests")
+                           .tags("method", "POST", "uri", "/api/auth/login")
+                           .register(meterRegistry);
+
+        // when
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+
+        // then
+        assertThat(snapshot.histogramCounts()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("[메트릭] 조회 요청 타이머 -> 히스토그램 미적용")
+    void latencyDistributionFilter_whenOtherRoute() {
+        // given
+        Timer timer = Timer.builder("http.server.requests")
+                           .tags("method", "GET", "uri", "/api/sessions")
+                           .register(meterRegistry);
+
+        // when
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+
+        // then
+        assertThat(snapshot.histogramCounts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[메트릭] 비밀번호 해시 타이머 -> SLO 버킷 기록")
+    void latencyDistributionFilter_whenPasswordHash() {
+        // given
+        Timer timer = Timer.builder("password.hash")
+                           .tag("operation", "encode")
+                           .register(meterRegistry);
+
+        // when
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+
+        // then
+        assertThat(snapshot.histogramCounts()).isNotEmpty();
+    }
+}
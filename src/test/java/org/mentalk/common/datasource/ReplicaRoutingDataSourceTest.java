@@ -0,0 +1,213 @@
+package org.mentalk.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.enums.Role;
+import org.mentalk.common.security.PrincipalDetails;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(true, Duration.ofMinutes(1),
+                                                                     100);
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate replicaJdbcTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate jpaReadOnly;
+    private TransactionTemplate jpaReadWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        new JdbcTemplate(primary).update("insert into node values ('primary', 0)");
+        replicaJdbcTemplate = new JdbcTemplate(replica);
+        replicaJdbcTemplate.update("insert into node values ('replica', 0)");
+
+        replicaLagMonitor = new ReplicaLagMonitor(replica, "select lag_seconds from node",
+                                                  Duration.ofSeconds(1), new SimpleMeterRegistry());
+        replicaLagMonitor.check();
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicaLagMonitor,
+                                                                        readYourWrites);
+        routing.setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary,
+                                            DataSourceType.REPLICA, replica));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+
+        entityManagerFactory = entityManagerFactory(dataSource);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaTransactionManager jpaTransactionManager = new JpaTransactionManager(entityManagerFactory);
+        jpaReadOnly = new TransactionTemplate(jpaTransactionManager);
+        jpaReadOnly.setReadOnly(true);
+        jpaReadWrite = new TransactionTemplate(jpaTransactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        entityManagerFactory.close();
+    }
+
+    @Test
+    @DisplayName("[DB 라우팅] 읽기 전용 트랜잭션 -> 레플리카, 그 외 -> primary")
+    void route_whenReadOnly() {
+        // when & then
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("[DB 라우팅] JPA 읽기 전용 트랜잭션 -> 레플리카, 그 외 -> primary")
+    void route_whenJpaReadOnly() {
+        // when & then
+        assertThat(jpaReadOnly.execute(status -> currentNodeThroughJpa())).isEqualTo("replica");
+        assertThat(jpaReadWrite.execute(status -> currentNodeThroughJpa())).isEqualTo("primary");
+        assertThat(jpaReadOnly.execute(status -> currentNodeThroughJpa())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("[DB 라우팅] 요청 동안 EntityManager를 열어 둔 경우(OSIV) -> 먼저 잡은 primary 커넥션을 계속 씀")
+    void route_whenEntityManagerHeldOpen() {
+        // given
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory,
+                                                       new EntityManagerHolder(requestEntityManager));
+
+        try {
+            // when
+            jpaReadWrite.execute(status -> currentNodeThroughJpa());
+            String node = jpaReadOnly.execute(status -> currentNodeThroughJpa());
+
+            // then
+            assertThat(node).isEqualTo("primary");
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            EntityManagerFactoryUtils.closeEntityManager(requestEntityManager);
+        }
+    }
+
+    @Test
+    @DisplayName("[DB 라우팅] 레플리카 지연이 기준 초과 -> primary로 대체")
+    void route_whenReplicaLagging() {
+        // given
+        replicaJdbcTemplate.update("update node set lag_seconds = 5");
+
+        // when
+        replicaLagMonitor.check();
+
+        // then
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("[DB 라우팅] 방금 쓴 키를 읽는 경우 -> primary에서 읽음")
+    void route_whenOwnWritePinned() {
+        // given
+        readWrite.executeWithoutResult(
+                status -> readYourWrites.pin(ReadYourWrites.emailKey("user@mentalk.org")));
+
+        // when & then
+        assertThat(readOnly.execute(status -> readYourWrites.readOwnWrites(
+                ReadYourWrites.emailKey("user@mentalk.org"), this::currentNode)))
+                .isEqualTo("primary");
+        assertThat(readOnly.execute(status -> readYourWrites.readOwnWrites(
+                ReadYourWrites.emailKey("other@mentalk.org"), this::currentNode)))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("[DB 라우팅] 쓰기가 롤백된 경우 -> 고정하지 않음")
+    void route_whenWriteRolledBack() {
+        // given
+        readWrite.executeWithoutResult(status -> {
+            readYourWrites.pin(ReadYourWrites.emailKey("user@mentalk.org"));
+            status.setRollbackOnly();
+        });
+
+        // when & then
+        assertThat(readOnly.execute(status -> readYourWrites.readOwnWrites(
+                ReadYourWrites.emailKey("user@mentalk.org"), this::currentNode)))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("[DB 라우팅] 인증된 회원이 방금 쓴 경우 -> 그 회원의 읽기 전용 트랜잭션은 primary")
+    void route_whenAuthenticatedMemberPinned() {
+        // given
+        readYourWrites.pin(ReadYourWrites.memberKey(1L));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new PrincipalDetails(1L, Role.MENTOR),
+                                                        null));
+
+        // when & then
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private String currentNodeThroughJpa() {
+        return (String) entityManager.createNativeQuery("select name from node").getSingleResult();
+    }
+
+    // 스프링 부트와 같이 커넥션을 EntityManager가 닫힐 때까지 붙잡는 모드로 띄운다.
+    private static EntityManagerFactory entityManagerFactory(DataSource dataSource) {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(ReplicaRoutingDataSourceTest.class.getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_HOLD.name()));
+        factoryBean.afterPropertiesSet();
+        return factoryBean.getObject();
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop table if exists node");
+        jdbcTemplate.execute("create table node (name varchar(20), lag_seconds int)");
+        return dataSource;
+    }
+}
@@ -0,0 +1,59 @@
+package org.mentalk.common.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.enums.ErrorCode;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class ConstraintViolationsTest {
+
+    @Test
+    @DisplayName("[제약 위반] MySQL 제약 이름 -> 해당 에러 코드")
+    void toErrorCode_whenMySqlConstraintName() {
+        // given
+        DataIntegrityViolationException e = violation("local_account.uk_local_account_email");
+
+        // when
+        ErrorCode errorCode = ConstraintViolations.toErrorCode(e);
+
+        // then
+        assertThat(errorCode).isEqualTo(ErrorCode.ALREADY_EMAIL_IN_USE);
+    }
+
+    @Test
+    @DisplayName("[제약 위반] H2 인덱스 정의 -> 대소문자 무시하고 해당 에러 코드")
+    void toErrorCode_whenH2IndexDescription() {
+        // given
+        DataIntegrityViolationException e = violation(
+                "PUBLIC.UK_MEMBER_PHONE_NUMBER_INDEX_8 ON PUBLIC.MEMBER(PHONE_NUMBER NULLS FIRST)");
+
+        // when
+        ErrorCode errorCode = ConstraintViolations.toErrorCode(e);
+
+        // then
+        assertThat(errorCode).isEqualTo(ErrorCode.ALREADY_PHONE_NUMBER_IN_USE);
+    }
+
+    @Test
+    @DisplayName("[제약 위반] 알 수 없는 제약 -> 데이터 무결성 위반")
+    void toErrorCode_whenUnknownConstraint() {
+        // given
+        DataIntegrityViolationException e = violation("fk_session_mentor");
+
+        // when
+        ErrorCode errorCode = ConstraintViolations.toErrorCode(e);
+
+        // then
+        assertThat(errorCode).isEqualTo(ErrorCode.DATA_INTEGRITY_VIOLATION);
+    }
+
+    private DataIntegrityViolationException violation(String constraintName) {
+        ConstraintViolationException cause = new ConstraintViolationException(
+                "could not execute statement", new SQLException("Duplicate entry"), constraintName);
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+}
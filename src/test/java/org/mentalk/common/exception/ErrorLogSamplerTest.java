@@ -0,0 +1,48 @@
+package org.mentalk.common.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.enums.ErrorCode;
+
+class ErrorLogSamplerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final ErrorLogSampler errorLogSampler = new ErrorLogSampler(Duration.ofSeconds(1), 2,
+                                                                        now::get);
+
+    @Test
+    @DisplayName("[에러 로그] 허용량 초과 -> 생략 후 다음 구간에 생략 건수 반환")
+    void sample_whenLimitExceeded() {
+        // when
+        int first = errorLogSampler.sample(ErrorCode.INVALID_PASSWORD);
+        int second = errorLogSampler.sample(ErrorCode.INVALID_PASSWORD);
+        int third = errorLogSampler.sample(ErrorCode.INVALID_PASSWORD);
+        int fourth = errorLogSampler.sample(ErrorCode.INVALID_PASSWORD);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        int nextWindow = errorLogSampler.sample(ErrorCode.INVALID_PASSWORD);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isEqualTo(ErrorLogSampler.SKIP);
+        assertThat(fourth).isEqualTo(ErrorLogSampler.SKIP);
+        assertThat(nextWindow).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[에러 로그] 에러 코드별 -> 허용량 따로 계산")
+    void sample_whenDifferentErrorCodes() {
+        // given
+        errorLogSampler.sample(ErrorCode.INVALID_PASSWORD);
+        errorLogSampler.sample(ErrorCode.INVALID_PASSWORD);
+
+        // when & then
+        assertThat(errorLogSampler.sample(ErrorCode.EMAIL_NOT_FOUND)).isZero();
+    }
+}
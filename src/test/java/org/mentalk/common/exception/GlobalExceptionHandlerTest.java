@@ -0,0 +1,45 @@
+package org.mentalk.common.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mentalk.common.enums.ErrorCode;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(OutputCaptureExtension.class)
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler(1);
+
+    @Test
+    @DisplayName("[예외 처리] 과부하로 거절한 503 -> ERROR 없이 샘플링한 WARN만 남김")
+    void handleApiException_whenServiceUnavailable(CapturedOutput output) {
+        // when
+        IntStream.range(0, 10).forEach(i -> globalExceptionHandler.handleApiException(
+                new ApiException(ErrorCode.PASSWORD_HASH_UNAVAILABLE)));
+
+        // then
+        assertThat(output.getOut()).doesNotContain("ERROR");
+        assertThat(output.getOut().lines()
+                         .filter(line -> line.contains(ErrorCode.PASSWORD_HASH_UNAVAILABLE.getCode())))
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("[예외 처리] 그 밖의 5xx -> ERROR로 남김")
+    void handleApiException_whenServerError(CapturedOutput output) {
+        // when
+        ResponseEntity<byte[]> response = globalExceptionHandler.handleApiException(
+                new ApiException(ErrorCode.UNEXPECTED_ERROR));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(output.getOut()).contains("ERROR");
+    }
+}
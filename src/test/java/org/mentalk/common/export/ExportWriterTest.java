@@ -0,0 +1,72 @@
+package org.mentalk.common.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.enums.SessionType;
+import org.mentalk.session.dto.SessionExportDto;
+
+class ExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ExportWriter exportWriter = new ExportWriter(objectMapper);
+
+    @Test
+    @DisplayName("[NDJSON] 행마다 JSON 객체 한 줄 -> 행 수 반환")
+    void write_whenNdjson() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = exportWriter.write(Stream.of(session(1L, "첫 세션"), session(2L, "둘째 세션")),
+                                        ExportFormat.NDJSON, SessionExportDto.HEADER, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("첫 세션");
+        assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(2L);
+        assertThat(objectMapper.readTree(lines[0]).has("values")).isFalse();
+    }
+
+    @Test
+    @DisplayName("[CSV] 헤더 다음에 행을 쓰고 구분자가 든 값은 따옴표로 감싼다")
+    void write_whenCsv() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        exportWriter.write(Stream.of(session(1L, "a, \"b\"")), ExportFormat.CSV,
+                           SessionExportDto.HEADER, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[0]).isEqualTo(String.join(",", SessionExportDto.HEADER));
+        assertThat(lines[1]).startsWith("1,MENTORING,\"a, \"\"b\"\"\",content,10,3,7,mentor,");
+    }
+
+    @Test
+    @DisplayName("[CSV] 수식으로 시작하는 문자열 -> 작은따옴표를 붙여 무력화")
+    void toCsvField_whenFormula() {
+        // when & then
+        assertThat(ExportWriter.toCsvField("=HYPERLINK(\"x\")")).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\"");
+        assertThat(ExportWriter.toCsvField("-10")).isEqualTo("'-10");
+        assertThat(ExportWriter.toCsvField(-10)).isEqualTo("-10");
+        assertThat(ExportWriter.toCsvField(null)).isEmpty();
+    }
+
+    private SessionExportDto session(Long id, String title) {
+        return new SessionExportDto(id, SessionType.MENTORING, title, "content", 10, 3, 7L,
+                                    "mentor", LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+}
@@ -0,0 +1,125 @@
+package org.mentalk.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.enums.OutboxEventType;
+import org.mockito.ArgumentCaptor;
+
+class OutboxDispatcherTest {
+
+    private final OutboxClaimer outboxClaimer = mock(OutboxClaimer.class);
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final RecordingSubscriber sessionSubscriber = new RecordingSubscriber(
+            OutboxEventType.SESSION_CREATED);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboxDispatcher outboxDispatcher = new OutboxDispatcher(
+            outboxClaimer, outboxEventRepository, List.of(sessionSubscriber), meterRegistry, 10,
+            1000, 60000, 60000);
+
+    @Test
+    @DisplayName("[아웃박스 전달] 성공 -> 구독자에게 전달 후 완료 표시")
+    void dispatchBatch_whenSuccess() {
+        // given
+        OutboxEvent sessionCreated = event(1L, OutboxEventType.SESSION_CREATED);
+        OutboxEvent signedUp = event(2L, OutboxEventType.MEMBER_SIGNED_UP);
+        given(outboxClaimer.claim(any(LocalDateTime.class), any(LocalDateTime.class), eq(10)))
+                .willReturn(List.of(sessionCreated, signedUp));
+
+        // when
+        int dispatched = outboxDispatcher.dispatchBatch();
+
+        // then
+        assertThat(dispatched).isEqualTo(2);
+        assertThat(sessionSubscriber.received).extracting(OutboxMessage::id).containsExactly(1L);
+        verify(outboxEventRepository).markDispatched(eq(List.of(1L, 2L)),
+                                                     any(LocalDateTime.class));
+        verify(outboxEventRepository, never()).retryAt(anyLong(), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("outbox.events.dispatched")
+                                .tag("type", "SESSION_CREATED")
+                                .counter()
+                                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[아웃박스 전달] 구독자 실패 -> 완료 표시 없이 백오프 후 재시도 예약")
+    void dispatchBatch_whenSubscriberFails() {
+        // given
+        sessionSubscriber.failing = true;
+        OutboxEvent event = event(1L, OutboxEventType.SESSION_CREATED);
+        given(outboxClaimer.claim(any(LocalDateTime.class), any(LocalDateTime.class), eq(10)))
+                .willReturn(List.of(event));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        outboxDispatcher.dispatchBatch();
+
+        // then
+        ArgumentCaptor<LocalDateTime> availableTime = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository).retryAt(eq(1L), availableTime.capture());
+        assertThat(availableTime.getValue()).isAfter(before);
+        verify(outboxEventRepository, never()).markDispatched(anyList(), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("outbox.events.failed")
+                                .tag("type", "SESSION_CREATED")
+                                .counter()
+                                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[아웃박스 전달] 백오프 -> 시도마다 두 배로 늘고 최대값에서 멈춤")
+    void backoff_whenAttemptsGrow() {
+        // when & then
+        assertThat(outboxDispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(outboxDispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(outboxDispatcher.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(outboxDispatcher.backoff(100)).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    private static OutboxEvent event(Long id, OutboxEventType eventType) {
+        return OutboxEvent.builder()
+                          .id(id)
+                          .eventType(eventType)
+                          .aggregateId(1L)
+                          .payload("{}")
+                          .availableTime(LocalDateTime.now().minusSeconds(1))
+                          .build();
+    }
+
+    private static class RecordingSubscriber implements OutboxSubscriber {
+
+        private final OutboxEventType eventType;
+        private final List<OutboxMessage> received = new ArrayList<>();
+        private boolean failing;
+
+        RecordingSubscriber(OutboxEventType eventType) {
+            this.eventType = eventType;
+        }
+
+        @Override
+        public boolean supports(OutboxEventType eventType) {
+            return this.eventType == eventType;
+        }
+
+        @Override
+        public void handle(OutboxMessage message) {
+            if (failing) {
+                throw new IllegalStateException("subscriber down");
+            }
+            received.add(message);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.mentalk.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.config.JpaAuditingConfig;
+import org.mentalk.common.enums.OutboxEventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 디스패처가 실제 트랜잭션으로 동작해야 하므로 테스트 트랜잭션을 끈다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaAuditingConfig.class, OutboxClaimer.class, OutboxDispatcher.class,
+        OutboxDispatcherTransactionTest.Config.class})
+class OutboxDispatcherTransactionTest {
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("[아웃박스 전달] 트랜잭션을 쓰는 구독자 실패 -> 다른 이벤트의 완료 표시와 재시도 예약이 유지됨")
+    void dispatchBatch_whenTransactionalSubscriberFails() {
+        // given
+        OutboxEvent signedUp = outboxEventRepository.save(event(OutboxEventType.MEMBER_SIGNED_UP));
+        OutboxEvent sessionCreated = outboxEventRepository.save(
+                event(OutboxEventType.SESSION_CREATED));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        int dispatched = outboxDispatcher.dispatchBatch();
+
+        // then
+        assertThat(dispatched).isEqualTo(2);
+        assertThat(outboxEventRepository.findById(signedUp.getId()).orElseThrow()
+                                        .getDispatchedTime()).isNotNull();
+
+        OutboxEvent failed = outboxEventRepository.findById(sessionCreated.getId()).orElseThrow();
+        assertThat(failed.getDispatchedTime()).isNull();
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getAvailableTime()).isAfter(before);
+    }
+
+    private static OutboxEvent event(OutboxEventType eventType) {
+        return OutboxEvent.builder()
+                          .eventType(eventType)
+                          .aggregateId(1L)
+                          .payload("{}")
+                          .availableTime(LocalDateTime.now().minusSeconds(1))
+                          .build();
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        FailingSubscriber failingSubscriber(OutboxEventRepository outboxEventRepository) {
+            return new FailingSubscriber(outboxEventRepository);
+        }
+    }
+
+    // DB를 읽은 뒤 실패해 자신이 참여한 트랜잭션을 rollback-only로 만든다.
+    static class FailingSubscriber implements OutboxSubscriber {
+
+        private final OutboxEventRepository outboxEventRepository;
+
+        FailingSubscriber(OutboxEventRepository outboxEventRepository) {
+            this.outboxEventRepository = outboxEventRepository;
+        }
+
+        @Override
+        public boolean supports(OutboxEventType eventType) {
+            return eventType == OutboxEventType.SESSION_CREATED;
+        }
+
+        @Override
+        @Transactional
+        public void handle(OutboxMessage message) {
+            outboxEventRepository.findOldestPendingTime();
+            throw new IllegalStateException("subscriber down");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.mentalk.common.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.enums.ErrorCode;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ErrorResponsesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("[에러 응답] 미리 직렬화한 본문 -> ApiResponse.failure 직렬화 결과와 동일")
+    void body_whenRendered() throws Exception {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            // when
+            byte[] body = ErrorResponses.body(errorCode);
+
+            // then
+            assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(
+                    ApiResponse.failure(errorCode.getCode(), errorCode.getMessage())));
+        }
+    }
+
+    @Test
+    @DisplayName("[에러 응답] 서블릿 응답에 쓰기 -> 상태 코드, 본문 설정")
+    void write_whenUnauthorized() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        ErrorResponses.write(response, ErrorCode.UNAUTHORIZED);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getContentAsByteArray()).isEqualTo(
+                ErrorResponses.body(ErrorCode.UNAUTHORIZED));
+    }
+
+    @Test
+    @DisplayName("[에러 응답] 에러 응답 작성 -> 에러 코드별 카운터 증가")
+    void write_whenCounted() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        try {
+            // when
+            ErrorResponses.write(new MockHttpServletResponse(), ErrorCode.FORBIDDEN);
+            ErrorResponses.toResponseEntity(ErrorCode.FORBIDDEN);
+
+            // then
+            assertThat(meterRegistry.get("api.errors")
+                                    .tag("code", "G007")
+                                    .tag("status", "403")
+                                    .counter()
+                                    .count()).isEqualTo(2);
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
+}
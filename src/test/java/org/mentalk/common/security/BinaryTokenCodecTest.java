@@ -0,0 +1,127 @@
+package org.mentalk.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.enums.Role;
+
+class BinaryTokenCodecTest {
+
+    private static final String SECRET_KEY = "test-jwt-secret-key-test-jwt-secret-key";
+
+    private final BinaryTokenCodec codec = new BinaryTokenCodec(SECRET_KEY, 1);
+
+    @Test
+    @DisplayName("[바이너리 토큰] 발급한 토큰 -> 회원, 역할, 발급/만료 시각 복원")
+    void decode_whenIssued() {
+        // given
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiration = issuedAt.plus(Duration.ofDays(1));
+
+        // when
+        String token = codec.encode(7L, Role.MENTOR, issuedAt, expiration);
+        Optional<VerifiedToken> verified = codec.decode(token);
+
+        // then
+        assertThat(token).hasSize(47).doesNotContain(".");
+        assertThat(verified).hasValueSatisfying(value -> {
+            assertThat(value.principal()).isEqualTo(new PrincipalDetails(7L, Role.MENTOR));
+            assertThat(value.issuedAt()).isEqualTo(issuedAt);
+            assertThat(value.expiration()).isEqualTo(expiration);
+            assertThat(value.tokenId()).isNotBlank();
+        });
+    }
+
+    @Test
+    @DisplayName("[바이너리 토큰] JWS 대비 -> 쿠키 크기가 절반 이하")
+    void encode_whenComparedWithJws() {
+        // given
+        Instant issuedAt = Instant.now();
+        Instant expiration = issuedAt.plus(Duration.ofDays(1));
+
+        // when
+        String binary = codec.encode(1L, Role.USER, issuedAt, expiration);
+        String jws = new JwsTokenCodec(SECRET_KEY).encode(1L, Role.USER, issuedAt, expiration);
+
+        // then
+        assertThat(binary.length() * 2).isLessThan(jws.length());
+    }
+
+    @Test
+    @DisplayName("[바이너리 토큰] 페이로드 변조 -> 빈 값 반환")
+    void decode_whenTampered() {
+        // given
+        String token = codec.encode(1L, Role.USER, Instant.now(), Instant.now().plusSeconds(60));
+        char flipped = token.charAt(5) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, 5) + flipped + token.substring(6);
+
+        // when & then
+        assertThat(codec.decode(tampered)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[바이너리 토큰] 다른 키 id 또는 다른 비밀값 -> 빈 값 반환")
+    void decode_whenOtherKey() {
+        // given
+        String token = codec.encode(1L, Role.USER, Instant.now(), Instant.now().plusSeconds(60));
+
+        // when & then
+        assertThat(new BinaryTokenCodec(SECRET_KEY, 2).decode(token)).isEmpty();
+        assertThat(new BinaryTokenCodec("other-jwt-secret-key-other-jwt-secret-key", 1)
+                           .decode(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[바이너리 토큰] 키 교체 후 이전 키 id로 발급한 토큰 -> 그 키로 검증")
+    void decode_whenKeyRotated() {
+        // given
+        String oldToken = codec.encode(1L, Role.USER, Instant.now(),
+                                       Instant.now().plusSeconds(60));
+        BinaryTokenCodec rotated = new BinaryTokenCodec(
+                2, Map.of(1, SECRET_KEY, 2, "next-jwt-secret-key-next-jwt-secret-key"));
+
+        // when
+        String newToken = rotated.encode(1L, Role.USER, Instant.now(),
+                                         Instant.now().plusSeconds(60));
+
+        // then
+        assertThat(rotated.decode(oldToken)).isPresent();
+        assertThat(rotated.decode(newToken)).isPresent();
+        assertThat(codec.decode(newToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[바이너리 토큰] 만료된 토큰 -> 빈 값 반환")
+    void decode_whenExpired() {
+        // given
+        Instant issuedAt = Instant.now().minus(Duration.ofDays(2));
+        String token = codec.encode(1L, Role.USER, issuedAt, issuedAt.plus(Duration.ofDays(1)));
+
+        // when & then
+        assertThat(codec.decode(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[토큰 전환] 바이너리 발급 설정 -> JWS, 바이너리 토큰 모두 검증")
+    void verify_whenBothCodecsAccepted() {
+        // given
+        JwtUtil jwsIssuer = new JwtUtil(SECRET_KEY, "jws", 1);
+        JwtUtil binaryIssuer = new JwtUtil(SECRET_KEY, "binary", 1);
+
+        // when
+        String jws = jwsIssuer.createToken(1L, Role.USER);
+        String binary = binaryIssuer.createToken(2L, Role.MENTOR);
+
+        // then
+        assertThat(binaryIssuer.verify(jws).map(VerifiedToken::principal))
+                .contains(new PrincipalDetails(1L, Role.USER));
+        assertThat(jwsIssuer.verify(binary).map(VerifiedToken::principal))
+                .contains(new PrincipalDetails(2L, Role.MENTOR));
+    }
+}
@@ -0,0 +1,49 @@
+package org.mentalk.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CookieHeadersTest {
+
+    @Test
+    @DisplayName("[쿠키 헤더] 여러 쿠키 중 -> 이름이 일치하는 값 반환")
+    void find_whenAmongOtherCookies() {
+        // when
+        String value = CookieHeaders.find("theme=dark; access_token=abc.def.ghi; lang=ko",
+                                          "access_token");
+
+        // then
+        assertThat(value).isEqualTo("abc.def.ghi");
+    }
+
+    @Test
+    @DisplayName("[쿠키 헤더] 접두사만 같은 이름 -> 무시")
+    void find_whenOnlyPrefixMatches() {
+        // when
+        String value = CookieHeaders.find("access_token_old=old;access_token=new", "access_token");
+
+        // then
+        assertThat(value).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("[쿠키 헤더] 따옴표로 감싼 값 -> 따옴표 제거")
+    void find_whenQuoted() {
+        // when
+        String value = CookieHeaders.find("access_token=\"abc\"", "access_token");
+
+        // then
+        assertThat(value).isEqualTo("abc");
+    }
+
+    @Test
+    @DisplayName("[쿠키 헤더] 쿠키가 없는 경우 -> null 반환")
+    void find_whenAbsent() {
+        // when & then
+        assertThat(CookieHeaders.find(null, "access_token")).isNull();
+        assertThat(CookieHeaders.find("theme=dark", "access_token")).isNull();
+        assertThat(CookieHeaders.find("access_token", "access_token")).isNull();
+    }
+}
@@ -0,0 +1,104 @@
+package org.mentalk.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.enums.Role;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class JwtFilterTest {
+
+    private final VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+
+    private final TokenRevocationList tokenRevocationList = new TokenRevocationList();
+
+    private final JwtFilter jwtFilter = new JwtFilter(verifiedTokenCache, tokenRevocationList);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("[JWT 필터] 공개 경로 -> 토큰 검증 생략")
+    void doFilter_whenPublicRoute() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setCookies(new Cookie("access_token", "token"));
+
+        // when
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        verify(verifiedTokenCache, never()).getVerifiedToken(anyString());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("[JWT 필터] 인증 확인 경로 -> 토큰 검증 후 인증 정보 설정")
+    void doFilter_whenAuthCheckRoute() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/check");
+        request.setCookies(new Cookie("theme", "dark"), new Cookie("access_token", "token"));
+        given(verifiedTokenCache.getVerifiedToken("token")).willReturn(
+                Optional.of(verifiedToken("token-id", Instant.now())));
+
+        // when
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                .isEqualTo(new PrincipalDetails(1L, Role.USER));
+    }
+
+    @Test
+    @DisplayName("[JWT 필터] 회원 조회 경로 -> 회원가입과 달리 토큰 검증")
+    void doFilter_whenMemberRouteIsNotSignup() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/members");
+        request.setCookies(new Cookie("access_token", "token"));
+        given(verifiedTokenCache.getVerifiedToken(anyString())).willReturn(Optional.empty());
+
+        // when
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        verify(verifiedTokenCache).getVerifiedToken("token");
+    }
+
+    @Test
+    @DisplayName("[JWT 필터] 폐기된 토큰 -> 인증 정보 미설정")
+    void doFilter_whenTokenRevoked() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sessions");
+        request.setCookies(new Cookie("access_token", "token"));
+        VerifiedToken verifiedToken = verifiedToken("token-id", Instant.now());
+        given(verifiedTokenCache.getVerifiedToken("token")).willReturn(Optional.of(verifiedToken));
+        tokenRevocationList.revoke("token-id", verifiedToken.expiration());
+
+        // when
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private VerifiedToken verifiedToken(String tokenId, Instant issuedAt) {
+        return new VerifiedToken(new PrincipalDetails(1L, Role.USER), tokenId, issuedAt,
+                                 issuedAt.plus(Duration.ofDays(1)));
+    }
+}
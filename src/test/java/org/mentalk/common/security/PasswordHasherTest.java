@@ -0,0 +1,83 @@
+package org.mentalk.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.exception.ApiException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PasswordHasher passwordHasher = new PasswordHasher(new BlockingPasswordEncoder(),
+                                                                     meterRegistry, 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("[비밀번호 해시] 성공 -> 해시 반환, 지연 시간 기록")
+    void encode_whenSuccess() {
+        // given
+        release.countDown();
+
+        // when
+        String hashedPassword = passwordHasher.encode("password");
+
+        // then
+        assertThat(hashedPassword).isEqualTo("hashed:password");
+        assertThat(meterRegistry.get("password.hash")
+                                .tag("operation", "encode")
+                                .timer()
+                                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[비밀번호 해시] 대기열이 가득 찬 경우 -> 예외 발생")
+    void encode_whenQueueFull() {
+        // given
+        CompletableFuture<String> running = passwordHasher.encodeAsync("running");
+        CompletableFuture<String> queued = passwordHasher.encodeAsync("queued");
+
+        // when & then
+        assertThatThrownBy(() -> passwordHasher.encodeAsync("rejected"))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PASSWORD_HASH_UNAVAILABLE);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("hashed:running");
+        assertThat(queued.join()).isEqualTo("hashed:queued");
+    }
+
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.mentalk.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.enums.Role;
+
+class TokenRevocationListTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final TokenRevocationList tokenRevocationList = new TokenRevocationList(clock);
+
+    @Test
+    @DisplayName("[토큰 폐기] jti로 폐기 -> 해당 토큰만 폐기")
+    void isRevoked_whenTokenIdRevoked() {
+        // given
+        tokenRevocationList.revoke("revoked", NOW.plus(Duration.ofHours(1)));
+
+        // when & then
+        assertThat(tokenRevocationList.isRevoked(token(1L, "revoked", NOW))).isTrue();
+        assertThat(tokenRevocationList.isRevoked(token(1L, "other", NOW))).isFalse();
+    }
+
+    @Test
+    @DisplayName("[토큰 폐기] 회원 전체 폐기 -> 기준 시각 이전 발급 토큰만 폐기")
+    void isRevoked_whenMemberRevokedBefore() {
+        // given
+        tokenRevocationList.revokeAllBefore(1L, NOW, NOW.plus(Duration.ofDays(1)));
+
+        // when & then
+        assertThat(tokenRevocationList.isRevoked(token(1L, "old", NOW.minusSeconds(1)))).isTrue();
+        assertThat(tokenRevocationList.isRevoked(token(1L, "new", NOW))).isFalse();
+        assertThat(tokenRevocationList.isRevoked(token(2L, "old", NOW.minusSeconds(1)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("[토큰 폐기] 더 이른 기준 시각으로 다시 폐기 -> 늦은 기준 시각 유지")
+    void revokeAllBefore_whenEarlierCutoff() {
+        // given
+        tokenRevocationList.revokeAllBefore(1L, NOW, NOW.plus(Duration.ofDays(1)));
+
+        // when
+        tokenRevocationList.revokeAllBefore(1L, NOW.minusSeconds(60), NOW.plus(Duration.ofDays(1)));
+
+        // then
+        assertThat(tokenRevocationList.isRevoked(token(1L, "old", NOW.minusSeconds(1)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("[토큰 폐기] 만료 시각이 지난 항목 -> 만료 순서대로 정리")
+    void prune_whenExpired() {
+        // given
+        tokenRevocationList.revoke("first", NOW.plus(Duration.ofMinutes(1)));
+        tokenRevocationList.revoke("second", NOW.plus(Duration.ofMinutes(10)));
+        tokenRevocationList.revokeAllBefore(1L, NOW, NOW.plus(Duration.ofMinutes(5)));
+
+        // when
+        clock.advance(Duration.ofMinutes(5));
+        int pruned = tokenRevocationList.prune();
+
+        // then
+        assertThat(pruned).isEqualTo(2);
+        assertThat(tokenRevocationList.size()).isEqualTo(1);
+        assertThat(tokenRevocationList.isRevoked(token(2L, "second", NOW))).isTrue();
+    }
+
+    @Test
+    @DisplayName("[토큰 폐기] 이미 만료된 토큰 -> 목록에 추가하지 않음")
+    void revoke_whenAlreadyExpired() {
+        // when
+        tokenRevocationList.revoke("expired", NOW);
+
+        // then
+        assertThat(tokenRevocationList.size()).isZero();
+    }
+
+    private VerifiedToken token(Long memberId, String tokenId, Instant issuedAt) {
+        return new VerifiedToken(new PrincipalDetails(memberId, Role.USER), tokenId, issuedAt,
+                                 issuedAt.plus(Duration.ofDays(1)));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.mentalk.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mentalk.common.enums.Role;
+
+class VerifiedTokenCacheTest {
+
+    private JwtUtil jwtUtil;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil("test-jwt-secret-key-test-jwt-secret-key"));
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, 100);
+    }
+
+    @Test
+    @DisplayName("[토큰 검증] 유효한 토큰 -> 사용자 정보 반환")
+    void getPrincipal_whenValidToken() {
+        // given
+        String token = jwtUtil.createToken(1L, Role.MENTOR);
+
+        // when
+        Optional<PrincipalDetails> principal = verifiedTokenCache.getPrincipal(token);
+
+        // then
+        assertThat(principal).contains(new PrincipalDetails(1L, Role.MENTOR));
+    }
+
+    @Test
+    @DisplayName("[토큰 검증] 같은 토큰 반복 요청 -> 한 번만 파싱")
+    void getPrincipal_whenCached() {
+        // given
+        String token = jwtUtil.createToken(1L, Role.USER);
+
+        // when
+        verifiedTokenCache.getPrincipal(token);
+        verifiedTokenCache.getPrincipal(token);
+        verifiedTokenCache.getPrincipal(token);
+
+        // then
+        verify(jwtUtil, times(1)).verify(anyString());
+    }
+
+    @Test
+    @DisplayName("[토큰 검증] 서명이 변조된 토큰 -> 빈 값 반환")
+    void getPrincipal_whenInvalidSignature() {
+        // given
+        String token = jwtUtil.createToken(1L, Role.USER);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // when
+        Optional<PrincipalDetails> principal = verifiedTokenCache.getPrincipal(tampered);
+
+        // then
+        assertThat(principal).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[토큰 검증] 형식이 잘못된 토큰 -> 빈 값 반환")
+    void getPrincipal_whenMalformed() {
+        // when
+        Optional<PrincipalDetails> principal = verifiedTokenCache.getPrincipal("malformed");
+
+        // then
+        assertThat(principal).isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+package org.mentalk.common.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+class CreatedTimePollerTest {
+
+    private final List<Row> rows = new ArrayList<>();
+    private final List<Long> applied = new ArrayList<>();
+    private final CreatedTimePoller<Row> poller = new CreatedTimePollers(60).create(
+            2, this::findCreatedSince, Row::id, row -> applied.add(row.id()));
+
+    @Test
+    @DisplayName("[생성 시각 폴러] 기준 시각이 없는 경우 -> 아무것도 읽지 않음")
+    void poll_whenNotSynced() {
+        // given
+        rows.add(new Row(1L, LocalDateTime.now()));
+
+        // when
+        int polled = poller.poll();
+
+        // then
+        assertThat(polled).isZero();
+        assertThat(applied).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[생성 시각 폴러] 전체 적재 -> id 순으로 여러 배치에 걸쳐 반영하고 시작 시각부터 동기화")
+    void load_whenMultipleBatches() {
+        // given
+        LocalDateTime before = LocalDateTime.now();
+        for (long id = 1; id <= 5; id++) {
+            rows.add(new Row(id, LocalDateTime.now()));
+        }
+
+        // when
+        int loaded = poller.load(this::findAfter);
+
+        // then
+        assertThat(loaded).isEqualTo(5);
+        assertThat(applied).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(poller.getSyncedTime()).isAfterOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("[생성 시각 폴러] 동기화 후 더 작은 id로 생성된 행 -> 생성 시각 기준으로 가져옴")
+    void poll_whenCreatedWithLowerId() {
+        // given
+        rows.add(new Row(100L, LocalDateTime.now()));
+        poller.load(this::findAfter);
+        rows.add(new Row(51L, LocalDateTime.now()));
+
+        // when
+        poller.poll();
+
+        // then
+        assertThat(applied).contains(51L);
+    }
+
+    @Test
+    @DisplayName("[생성 시각 폴러] 기준 시각 직전에 생성된 행 -> lookback만큼 겹쳐 읽어 가져옴")
+    void poll_whenCreatedWithinLookback() {
+        // given
+        poller.markSynced(LocalDateTime.now());
+        rows.add(new Row(1L, LocalDateTime.now().minusSeconds(30)));
+        rows.add(new Row(2L, LocalDateTime.now().minusSeconds(90)));
+
+        // when
+        poller.poll();
+
+        // then
+        assertThat(applied).containsExactly(1L);
+    }
+
+    private List<Row> findAfter(long afterId, Pageable pageable) {
+        return rows.stream()
+                   .filter(row -> row.id() > afterId)
+                   .sorted(Comparator.comparing(Row::id))
+                   .limit(pageable.getPageSize())
+                   .toList();
+    }
+
+    private List<Row> findCreatedSince(LocalDateTime since, long afterId, Pageable pageable) {
+        return rows.stream()
+                   .filter(row -> !row.createdTime().isBefore(since))
+                   .filter(row -> row.id() > afterId)
+                   .sorted(Comparator.comparing(Row::id))
+                   .limit(pageable.getPageSize())
+                   .toList();
+    }
+
+    private record Row(Long id, LocalDateTime createdTime) {
+    }
+}
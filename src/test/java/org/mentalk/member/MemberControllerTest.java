@@ -17,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import org.mentalk.common.config.SecurityConfig;
 import org.mentalk.common.exception.ApiException;
 import org.mentalk.common.security.JwtUtil;
+import org.mentalk.common.security.TokenRevocationList;
+import org.mentalk.common.security.VerifiedTokenCache;
 import org.mentalk.member.dto.SignupDto;
 import org.mentalk.member.request.SignupRequest;
 import org.mentalk.utils.RequestFactory;
@@ -31,7 +33,7 @@ import org.springframework.test.web.servlet.ResultActions;
 
 @WebMvcTest(MemberController.class)
 @Import(SecurityConfig.class)
-@MockBean(JwtUtil.class)
+@MockBean({JwtUtil.class, VerifiedTokenCache.class, TokenRevocationList.class})
 class MemberControllerTest {
 
     @Autowired
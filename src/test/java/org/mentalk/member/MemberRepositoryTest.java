@@ -26,7 +26,7 @@ class MemberRepositoryTest {
         Member member = EntityFactory.member(Value.of(null), Value.of(null), Value.of(null));
 
         // when & then
-        assertThatThrownBy(() -> memberRepository.save(member)).isInstanceOf(
+        assertThatThrownBy(() -> memberRepository.saveAndFlush(member)).isInstanceOf(
                 DataIntegrityViolationException.class);
     }
 
@@ -42,7 +42,7 @@ class MemberRepositoryTest {
         memberRepository.save(member1);
 
         // when & then
-        assertThatThrownBy(() -> memberRepository.save(member2)).isInstanceOf(
+        assertThatThrownBy(() -> memberRepository.saveAndFlush(member2)).isInstanceOf(
                 DataIntegrityViolationException.class);
     }
 
@@ -1,30 +1,39 @@
 package org.mentalk.member;
 
-import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.anyString;
+import static org.mockito.BDDMockito.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 
+import java.time.Instant;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mentalk.auth.LocalAccountService;
-import org.mentalk.auth.dto.LocalAccountDto;
+import org.mentalk.auth.TokenRevocationService;
+import org.mentalk.auth.dto.JwtDto;
+import org.mentalk.common.datasource.ReadYourWrites;
 import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.enums.OutboxEventType;
+import org.mentalk.common.enums.Role;
 import org.mentalk.common.exception.ApiException;
+import org.mentalk.common.outbox.OutboxPublisher;
+import org.mentalk.common.security.JwtUtil;
+import org.mentalk.common.security.PasswordHasher;
 import org.mentalk.member.domain.Member;
+import org.mentalk.member.dto.MemberEventPayload;
 import org.mentalk.member.dto.SignupDto;
 import org.mentalk.utils.DtoFactory;
 import org.mentalk.utils.EntityFactory;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,94 +43,78 @@ class MemberServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private LocalAccountService localAccountService;
+    private SignupWriter signupWriter;
 
-    @InjectMocks
-    private MemberService memberService;
+    @Mock
+    private PasswordHasher passwordHasher;
 
-    @Test
-    @DisplayName("[회원가입] 신규 회원 가입 성공")
-    void signup_whenSuccessWithNewMember() {
-        // given
-        SignupDto signupDto = DtoFactory.signupDtoWithDefaults();
+    @Mock
+    private JwtUtil jwtUtil;
 
-        given(memberRepository.findByPhoneNumber(anyString())).willReturn(Optional.empty());
-        given(memberRepository.save(any(Member.class))).willReturn(
-                EntityFactory.memberWithDefaults());
+    @Mock
+    private TokenRevocationService tokenRevocationService;
 
-        doNothing().when(localAccountService).createLocalAccount(any(LocalAccountDto.class));
+    @Mock
+    private OutboxPublisher outboxPublisher;
 
-        // when & then
-        assertThatCode(() -> memberService.signup(signupDto)).doesNotThrowAnyException();
+    @Spy
+    private ReadYourWrites readYourWrites = ReadYourWrites.disabled();
 
-        verify(memberRepository, times(1)).findByPhoneNumber(anyString());
-        verify(memberRepository, times(1)).save(any(Member.class));
-        verify(localAccountService, times(1)).createLocalAccount(any(LocalAccountDto.class));
-    }
+    @InjectMocks
+    private MemberService memberService;
 
     @Test
-    @DisplayName("[회원가입] 로컬 계정이 없는 기존 회원 가입 성공")
-    void signup_whenSuccessWithNewLocalAccount() {
+    @DisplayName("[회원가입] 성공 -> 해시 후 쓰기")
+    void signup_whenSuccess() {
         // given
         SignupDto signupDto = DtoFactory.signupDtoWithDefaults();
 
-        given(memberRepository.findByPhoneNumber(anyString())).willReturn(
-                Optional.of(EntityFactory.memberWithDefaults()));
+        given(passwordHasher.encode(signupDto.password())).willReturn("hashedPassword");
 
-        doNothing().when(localAccountService).createLocalAccount(any(LocalAccountDto.class));
+        // when
+        memberService.signup(signupDto);
 
-        // when & then
-        assertThatCode(() -> memberService.signup(signupDto)).doesNotThrowAnyException();
-
-        verify(memberRepository, times(1)).findByPhoneNumber(anyString());
-        verify(memberRepository, never()).save(any(Member.class));
-        verify(localAccountService, times(1)).createLocalAccount(any(LocalAccountDto.class));
+        // then
+        InOrder inOrder = inOrder(passwordHasher, signupWriter);
+        inOrder.verify(passwordHasher).encode(signupDto.password());
+        inOrder.verify(signupWriter).write(signupDto, "hashedPassword");
     }
 
     @Test
-    @DisplayName("[회원가입] 로컬 계정이 있는 기존 회원 -> 예외 발생")
-    void signup_whenAlreadyRegistered() {
+    @DisplayName("[회원가입] 해시 작업 포화 -> 트랜잭션을 열지 않고 예외 발생")
+    void signup_whenHashUnavailable() {
         // given
         SignupDto signupDto = DtoFactory.signupDtoWithDefaults();
 
-        given(memberRepository.findByPhoneNumber(anyString())).willReturn(
-                Optional.of(EntityFactory.memberWithDefaults()));
-
-        doThrow(new ApiException(ErrorCode.ALREADY_ACCOUNT_REGISTERED))
-                .when(localAccountService)
-                .createLocalAccount(any(LocalAccountDto.class));
+        given(passwordHasher.encode(anyString())).willThrow(
+                new ApiException(ErrorCode.PASSWORD_HASH_UNAVAILABLE));
 
         // when & then
         assertThatThrownBy(() -> memberService.signup(signupDto))
                 .isInstanceOf(ApiException.class)
-                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_ACCOUNT_REGISTERED);
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PASSWORD_HASH_UNAVAILABLE);
 
-        verify(memberRepository, times(1)).findByPhoneNumber(anyString());
-        verify(memberRepository, never()).save(any(Member.class));
-        verify(localAccountService, times(1)).createLocalAccount(any(LocalAccountDto.class));
+        verify(signupWriter, never()).write(any(SignupDto.class), anyString());
     }
 
     @Test
-    @DisplayName("[회원가입] 이메일 중복 -> 예외 발생")
-    void signup_whenEmailInUse() {
+    @DisplayName("[멘토 전환] 성공 -> 기존 토큰 폐기 후 새 토큰 발급")
+    void changeRoleToMentor_whenSuccess() {
         // given
-        SignupDto signupDto = DtoFactory.signupDtoWithDefaults();
-
-        given(memberRepository.findByPhoneNumber(anyString())).willReturn(Optional.empty());
-        given(memberRepository.save(any(Member.class))).willReturn(
-                EntityFactory.memberWithDefaults());
+        Member member = EntityFactory.memberWithDefaults();
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(jwtUtil.createToken(1L, Role.MENTOR)).willReturn("token");
 
-        doThrow(new ApiException(ErrorCode.ALREADY_EMAIL_IN_USE))
-                .when(localAccountService)
-                .createLocalAccount(any(LocalAccountDto.class));
+        // when
+        JwtDto jwtDto = memberService.changeRoleToMentor(1L);
 
-        // when & then
-        assertThatThrownBy(() -> memberService.signup(signupDto))
-                .isInstanceOf(ApiException.class)
-                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_EMAIL_IN_USE);
+        // then
+        assertThat(jwtDto.role()).isEqualTo(Role.MENTOR);
 
-        verify(memberRepository, times(1)).findByPhoneNumber(anyString());
-        verify(memberRepository, times(1)).save(any(Member.class));
-        verify(localAccountService, times(1)).createLocalAccount(any(LocalAccountDto.class));
+        InOrder inOrder = inOrder(tokenRevocationService, jwtUtil);
+        inOrder.verify(tokenRevocationService).revokeAllBefore(eq(1L), any(Instant.class));
+        inOrder.verify(jwtUtil).createToken(1L, Role.MENTOR);
+        verify(outboxPublisher).publish(OutboxEventType.MEMBER_BECAME_MENTOR, 1L,
+                                        new MemberEventPayload(1L, Role.MENTOR));
     }
-}
\ No newline at end of file
+}
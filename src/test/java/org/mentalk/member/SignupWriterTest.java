@@ -0,0 +1,111 @@
+package org.mentalk.member;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyString;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
+
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mentalk.auth.EmailExistenceFilter;
+import org.mentalk.auth.LocalAccountRepository;
+import org.mentalk.auth.domain.LocalAccount;
+import org.mentalk.common.datasource.ReadYourWrites;
+import org.mentalk.common.enums.OutboxEventType;
+import org.mentalk.common.outbox.OutboxPublisher;
+import org.mentalk.member.domain.Member;
+import org.mentalk.member.dto.MemberEventPayload;
+import org.mentalk.member.dto.SignupDto;
+import org.mentalk.utils.DtoFactory;
+import org.mentalk.utils.EntityFactory;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class SignupWriterTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private LocalAccountRepository localAccountRepository;
+
+    @Mock
+    private EmailExistenceFilter emailExistenceFilter;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Spy
+    private ReadYourWrites readYourWrites = ReadYourWrites.disabled();
+
+    @InjectMocks
+    private SignupWriter signupWriter;
+
+    @Test
+    @DisplayName("[회원가입] 새 전화번호 -> 회원, 계정 저장")
+    void write_whenNewMember() {
+        // given
+        SignupDto signupDto = DtoFactory.signupDtoWithDefaults();
+
+        given(memberRepository.findByPhoneNumber(anyString())).willReturn(Optional.empty());
+        given(memberRepository.save(any(Member.class))).willReturn(
+                EntityFactory.memberWithDefaults());
+
+        // when
+        signupWriter.write(signupDto, "hashedPassword");
+
+        // then
+        verify(memberRepository, times(1)).findByPhoneNumber(anyString());
+        verify(memberRepository, times(1)).save(any(Member.class));
+        verify(localAccountRepository, times(1)).saveAndFlush(any(LocalAccount.class));
+        verify(outboxPublisher, times(1)).publish(eq(OutboxEventType.MEMBER_SIGNED_UP), any(),
+                                                  any(MemberEventPayload.class));
+        verify(emailExistenceFilter, times(1)).add(signupDto.email());
+    }
+
+    @Test
+    @DisplayName("[회원가입] 로컬 계정이 없는 기존 회원 -> 회원 저장 없이 계정만 저장")
+    void write_whenExistingMember() {
+        // given
+        SignupDto signupDto = DtoFactory.signupDtoWithDefaults();
+
+        given(memberRepository.findByPhoneNumber(anyString())).willReturn(
+                Optional.of(EntityFactory.memberWithDefaults()));
+
+        // when
+        signupWriter.write(signupDto, "hashedPassword");
+
+        // then
+        verify(memberRepository, never()).save(any(Member.class));
+        verify(localAccountRepository, times(1)).saveAndFlush(any(LocalAccount.class));
+    }
+
+    @Test
+    @DisplayName("[회원가입] 유니크 제약 위반 -> 예외 전파, 필터 갱신 없음")
+    void write_whenConstraintViolated() {
+        // given
+        SignupDto signupDto = DtoFactory.signupDtoWithDefaults();
+
+        given(memberRepository.findByPhoneNumber(anyString())).willReturn(Optional.empty());
+        given(memberRepository.save(any(Member.class))).willReturn(
+                EntityFactory.memberWithDefaults());
+        given(localAccountRepository.saveAndFlush(any(LocalAccount.class))).willThrow(
+                new DataIntegrityViolationException("uk_local_account_email"));
+
+        // when & then
+        assertThatThrownBy(() -> signupWriter.write(signupDto, "hashedPassword"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        verify(emailExistenceFilter, never()).add(anyString());
+    }
+}
@@ -0,0 +1,36 @@
+package org.mentalk.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NGramTokenizerTest {
+
+    @Test
+    @DisplayName("[토큰화] 한글 -> 바이그램으로 분리")
+    void tokenize_whenHangul() {
+        assertThat(NGramTokenizer.tokenize("자바스크립트")).containsExactly("자바", "바스", "스크",
+                                                                          "크립", "립트");
+    }
+
+    @Test
+    @DisplayName("[토큰화] 영문, 숫자 -> 소문자 단어 단위로 분리")
+    void tokenize_whenLatin() {
+        assertThat(NGramTokenizer.tokenize("Spring Boot 3")).containsExactly("spring", "boot", "3");
+    }
+
+    @Test
+    @DisplayName("[토큰화] 한글과 영문이 섞인 경우 -> 문자 종류가 바뀌는 곳에서 분리")
+    void tokenize_whenMixedScripts() {
+        assertThat(NGramTokenizer.tokenize("Spring으로 시작하기!")).containsExactly("spring", "으로",
+                                                                              "시작", "작하",
+                                                                              "하기");
+    }
+
+    @Test
+    @DisplayName("[토큰화] 한 글자 단어 -> 그대로 유지")
+    void tokenize_whenSingleCharacter() {
+        assertThat(NGramTokenizer.tokenize("첫 세션")).containsExactly("첫", "세션");
+    }
+}
@@ -0,0 +1,152 @@
+package org.mentalk.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class SeatGateTest {
+
+    private final SeatGate seatGate = new SeatGate(100, 60);
+
+    @Test
+    @DisplayName("[좌석 게이트] 남은 좌석만큼 통과 -> 이후 거절")
+    void tryAcquire_whenSeatsExhausted() {
+        // given
+        seatGate.tryAcquire(1L, id -> 2);
+
+        // when
+        boolean second = seatGate.tryAcquire(1L, id -> 2);
+        boolean third = seatGate.tryAcquire(1L, id -> 2);
+
+        // then
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+    }
+
+    @Test
+    @DisplayName("[좌석 게이트] 반환한 좌석 -> 다시 통과")
+    void release_whenSeatReturned() {
+        // given
+        seatGate.tryAcquire(1L, id -> 1);
+
+        // when
+        seatGate.release(1L);
+
+        // then
+        assertThat(seatGate.tryAcquire(1L, id -> 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("[좌석 게이트] DB에서 매진 확인 -> 남은 좌석과 무관하게 거절")
+    void close_whenSoldOutInDatabase() {
+        // given
+        seatGate.tryAcquire(1L, id -> 10);
+
+        // when
+        seatGate.close(1L);
+
+        // then
+        assertThat(seatGate.tryAcquire(1L, id -> 10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[좌석 게이트] 동시 요청 -> 좌석 수만큼만 통과")
+    void tryAcquire_whenConcurrent() throws Exception {
+        // given
+        int threads = 16;
+        int attemptsPerThread = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    if (seatGate.tryAcquire(1L, id -> 50)) {
+                        admitted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        // then
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(admitted.get()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("[좌석 게이트] 같은 좌석을 여러 번 반환 -> 한 번만 반영")
+    void release_whenHoldReleasedTwice() {
+        // given
+        seatGate.tryAcquire(1L, id -> 1);
+        SeatHold seatHold = new SeatHold(seatGate, 1L);
+
+        // when
+        seatHold.release();
+        seatHold.release();
+
+        // then
+        assertThat(seatGate.tryAcquire(1L, id -> 1)).isTrue();
+        assertThat(seatGate.tryAcquire(1L, id -> 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[좌석 게이트] 좌석을 차지한 트랜잭션 커밋 -> 이후 반환해도 반영하지 않음")
+    void releaseUnlessCommitted_whenCommitted() {
+        // given
+        seatGate.tryAcquire(1L, id -> 1);
+        SeatHold seatHold = new SeatHold(seatGate, 1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            seatHold.releaseUnlessCommitted();
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(
+                    synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        seatHold.release();
+
+        // then
+        assertThat(seatGate.tryAcquire(1L, id -> 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[좌석 게이트] 좌석을 차지한 트랜잭션 롤백 -> 좌석 반환")
+    void releaseUnlessCommitted_whenRolledBack() {
+        // given
+        seatGate.tryAcquire(1L, id -> 1);
+        SeatHold seatHold = new SeatHold(seatGate, 1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            seatHold.releaseUnlessCommitted();
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(
+                    synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        seatHold.release();
+
+        // then
+        assertThat(seatGate.tryAcquire(1L, id -> 1)).isTrue();
+        assertThat(seatGate.tryAcquire(1L, id -> 1)).isFalse();
+    }
+}
@@ -0,0 +1,134 @@
+package org.mentalk.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
+
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.exception.ApiException;
+import org.mentalk.session.dto.ReservationDto;
+import org.mentalk.session.dto.ReservationIdDto;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+@ExtendWith(MockitoExtension.class)
+class SeatReservationServiceTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SeatReservationWriter seatReservationWriter;
+
+    @Mock
+    private SeatGate seatGate;
+
+    @InjectMocks
+    private SeatReservationService seatReservationService;
+
+    private final ReservationDto reservationDto = ReservationDto.of(1L, 2L);
+
+    @Test
+    @DisplayName("[좌석 예약] 성공 -> 게이트 통과 후 예약 id 반환")
+    void reserve_whenSuccess() {
+        // given
+        given(seatGate.tryAcquire(eq(1L), any())).willReturn(true);
+        given(seatReservationWriter.write(eq(reservationDto), any(SeatHold.class))).willReturn(ReservationIdDto.of(10L));
+
+        // when
+        ReservationIdDto reservationIdDto = seatReservationService.reserve(reservationDto);
+
+        // then
+        assertThat(reservationIdDto.id()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("[좌석 예약] 게이트에서 거절 -> 트랜잭션, DB 조회 없이 예외 발생")
+    void reserve_whenRejectedByGate() {
+        // given
+        given(seatGate.tryAcquire(eq(1L), any())).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> seatReservationService.reserve(reservationDto))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SESSION_FULL);
+
+        verify(seatReservationWriter, never()).write(any(ReservationDto.class), any(SeatHold.class));
+    }
+
+    @Test
+    @DisplayName("[좌석 예약] 동시 중복 예약으로 유니크 제약 위반 -> 먼저 커밋된 예약 id 반환")
+    void reserve_whenDuplicateInsert() {
+        // given
+        given(seatGate.tryAcquire(eq(1L), any())).willReturn(true);
+        given(seatReservationWriter.write(eq(reservationDto), any(SeatHold.class))).willThrow(
+                new DataIntegrityViolationException("uk_reservation_session_member"));
+        given(seatReservationWriter.findReservedId(1L, 2L)).willReturn(Optional.of(10L));
+
+        // when
+        ReservationIdDto reservationIdDto = seatReservationService.reserve(reservationDto);
+
+        // then
+        assertThat(reservationIdDto.id()).isEqualTo(10L);
+
+        verify(seatReservationWriter, times(1)).findReservedId(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("[좌석 예약] 유니크 제약 위반 후 예약을 찾을 수 없는 경우 -> 예외 발생")
+    void reserve_whenDuplicateInsertNotFound() {
+        // given
+        given(seatGate.tryAcquire(eq(1L), any())).willReturn(true);
+        given(seatReservationWriter.write(eq(reservationDto), any(SeatHold.class))).willThrow(
+                new DataIntegrityViolationException("uk_reservation_session_member"));
+        given(seatReservationWriter.findReservedId(1L, 2L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> seatReservationService.reserve(reservationDto))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_RESERVED);
+    }
+
+    @Test
+    @DisplayName("[좌석 예약] 쓰기가 좌석을 넘겨받기 전 실패 -> 게이트 좌석 반환 후 예외 전파")
+    void reserve_whenWriteFailsBeforeHandOff() {
+        // given
+        given(seatGate.tryAcquire(eq(1L), any())).willReturn(true);
+        given(seatReservationWriter.write(eq(reservationDto), any(SeatHold.class))).willThrow(
+                new CannotCreateTransactionException("connection unavailable"));
+
+        // when & then
+        assertThatThrownBy(() -> seatReservationService.reserve(reservationDto))
+                .isInstanceOf(CannotCreateTransactionException.class);
+
+        verify(seatGate, times(1)).release(1L);
+    }
+
+    @Test
+    @DisplayName("[좌석 예약] 예약 유니크 제약이 아닌 무결성 위반 -> 중복으로 바꾸지 않고 예외 전파")
+    void reserve_whenOtherIntegrityViolation() {
+        // given
+        given(seatGate.tryAcquire(eq(1L), any())).willReturn(true);
+        given(seatReservationWriter.write(eq(reservationDto), any(SeatHold.class))).willThrow(
+                new DataIntegrityViolationException("fk_reservation_member"));
+
+        // when & then
+        assertThatThrownBy(() -> seatReservationService.reserve(reservationDto))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        verify(seatReservationWriter, never()).findReservedId(any(), any());
+        verify(seatGate, times(1)).release(1L);
+    }
+}
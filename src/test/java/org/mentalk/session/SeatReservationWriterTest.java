@@ -0,0 +1,124 @@
+package org.mentalk.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
+
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.exception.ApiException;
+import org.mentalk.member.MemberRepository;
+import org.mentalk.session.domain.Reservation;
+import org.mentalk.session.dto.ReservationDto;
+import org.mentalk.session.dto.ReservationIdDto;
+import org.mentalk.utils.EntityFactory;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class SeatReservationWriterTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private SeatHold seatHold;
+
+    @InjectMocks
+    private SeatReservationWriter seatReservationWriter;
+
+    private final ReservationDto reservationDto = ReservationDto.of(1L, 2L);
+
+    @Test
+    @DisplayName("[좌석 예약 쓰기] 성공 -> 좌석 차감, 예약 저장 후 id 반환")
+    void write_whenSuccess() {
+        // given
+        given(reservationRepository.findIdBySessionIdAndMemberId(1L, 2L)).willReturn(
+                Optional.empty());
+        given(sessionRepository.incrementReservedCount(1L)).willReturn(1);
+        given(sessionRepository.getReferenceById(1L)).willReturn(
+                EntityFactory.sessionWithDefaults());
+        given(memberRepository.getReferenceById(2L)).willReturn(EntityFactory.memberWithDefaults());
+        given(reservationRepository.saveAndFlush(any(Reservation.class))).willReturn(
+                Reservation.builder().id(10L).build());
+
+        // when
+        ReservationIdDto reservationIdDto = seatReservationWriter.write(reservationDto, seatHold);
+
+        // then
+        assertThat(reservationIdDto.id()).isEqualTo(10L);
+
+        verify(seatHold, times(1)).releaseUnlessCommitted();
+        verify(seatHold, never()).release();
+    }
+
+    @Test
+    @DisplayName("[좌석 예약 쓰기] 이미 예약한 회원의 재시도 -> 기존 예약 id 반환, 게이트 좌석 반환")
+    void write_whenAlreadyReserved() {
+        // given
+        given(reservationRepository.findIdBySessionIdAndMemberId(1L, 2L)).willReturn(
+                Optional.of(10L));
+
+        // when
+        ReservationIdDto reservationIdDto = seatReservationWriter.write(reservationDto, seatHold);
+
+        // then
+        assertThat(reservationIdDto.id()).isEqualTo(10L);
+
+        verify(seatHold, times(1)).release();
+        verify(sessionRepository, never()).incrementReservedCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("[좌석 예약 쓰기] 조건부 UPDATE 실패 -> 게이트 닫고 예외 발생")
+    void write_whenSoldOutInDatabase() {
+        // given
+        given(reservationRepository.findIdBySessionIdAndMemberId(1L, 2L)).willReturn(
+                Optional.empty());
+        given(sessionRepository.incrementReservedCount(1L)).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> seatReservationWriter.write(reservationDto, seatHold))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SESSION_FULL);
+
+        verify(seatHold, times(1)).close();
+        verify(reservationRepository, never()).saveAndFlush(any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("[좌석 예약 쓰기] 동시 중복 예약으로 유니크 제약 위반 -> 예외 전파")
+    void write_whenDuplicateInsert() {
+        // given
+        given(reservationRepository.findIdBySessionIdAndMemberId(1L, 2L)).willReturn(
+                Optional.empty());
+        given(sessionRepository.incrementReservedCount(1L)).willReturn(1);
+        given(sessionRepository.getReferenceById(1L)).willReturn(
+                EntityFactory.sessionWithDefaults());
+        given(memberRepository.getReferenceById(2L)).willReturn(EntityFactory.memberWithDefaults());
+        given(reservationRepository.saveAndFlush(any(Reservation.class))).willThrow(
+                new DataIntegrityViolationException("uk_reservation_session_member"));
+
+        // when & then
+        assertThatThrownBy(() -> seatReservationWriter.write(reservationDto, seatHold))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        verify(seatHold, times(1)).releaseUnlessCommitted();
+    }
+}
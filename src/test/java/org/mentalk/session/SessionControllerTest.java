@@ -1,23 +1,54 @@
 package org.mentalk.session;
 
 import static org.mentalk.common.enums.ErrorCode.FORBIDDEN;
+import static org.mentalk.common.enums.ErrorCode.INVALID_CURSOR;
+import static org.mentalk.common.enums.ErrorCode.INVALID_EXPORT_FORMAT;
+import static org.mentalk.common.enums.ErrorCode.METHOD_ARG_NOT_VALID;
+import static org.mentalk.common.enums.ErrorCode.SESSION_FULL;
+import static org.mentalk.common.enums.ErrorCode.SESSION_NOT_FOUND;
 import static org.mentalk.common.enums.ErrorCode.UNAUTHORIZED;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mentalk.annotation.WithCustomMockMentor;
 import org.mentalk.annotation.WithCustomMockUser;
 import org.mentalk.common.config.SecurityConfig;
+import org.mentalk.common.enums.Role;
+import org.mentalk.common.exception.ApiException;
+import org.mentalk.common.export.ExportFormat;
 import org.mentalk.common.security.JwtUtil;
+import org.mentalk.common.security.TokenRevocationList;
+import org.mentalk.common.security.VerifiedTokenCache;
+import org.mentalk.session.dto.ReservationDto;
+import org.mentalk.session.dto.ReservationIdDto;
+import org.mentalk.session.dto.SessionBulkDto;
+import org.mentalk.session.dto.SessionDetailDto;
 import org.mentalk.session.dto.SessionDto;
+import org.mentalk.session.dto.SessionFeedDto;
+import org.mentalk.session.dto.SessionFeedQueryDto;
 import org.mentalk.session.dto.SessionIdDto;
+import org.mentalk.session.dto.SessionIdsDto;
+import org.mentalk.session.dto.SessionSearchResultDto;
+import org.mentalk.session.request.SessionBulkCreateRequest;
 import org.mentalk.session.request.SessionCreateRequest;
 import org.mentalk.utils.DtoFactory;
 import org.mentalk.utils.RequestFactory;
@@ -27,11 +58,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 @WebMvcTest(SessionController.class)
 @Import(SecurityConfig.class)
-@MockBean(JwtUtil.class)
+@MockBean({JwtUtil.class, VerifiedTokenCache.class, TokenRevocationList.class})
 class SessionControllerTest {
 
     @Autowired
@@ -43,6 +75,12 @@ class SessionControllerTest {
     @MockBean
     private SessionService sessionService;
 
+    @MockBean
+    private SeatReservationService seatReservationService;
+
+    @MockBean
+    private SessionExportService sessionExportService;
+
     @Test
     @WithCustomMockMentor
     @DisplayName("[세션 생성] 멘토 회원일 때 성공 -> 200 응답")
@@ -107,4 +145,298 @@ class SessionControllerTest {
         result.andExpect(jsonPath("$.payload.code").value(UNAUTHORIZED.getCode()));
         result.andDo(print());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithCustomMockMentor
+    @DisplayName("[세션 일괄 생성] 멘토 회원일 때 성공 -> 200 응답")
+    void createSessions_whenMemberIsMentor() throws Exception {
+        // given
+        SessionBulkCreateRequest request = new SessionBulkCreateRequest(
+                List.of(RequestFactory.sessionCreateRequestWithDefaults(),
+                        RequestFactory.sessionCreateRequestWithDefaults()));
+
+        SessionIdsDto sessionIdsDto = SessionIdsDto.of(List.of(1L, 2L));
+        given(sessionService.createSessions(any(SessionBulkDto.class))).willReturn(sessionIdsDto);
+
+        // when
+        ResultActions result = mockMvc.perform(
+                post("/api/sessions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        );
+
+        // then
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.success").value(true));
+        result.andExpect(jsonPath("$.payload.data.ids.length()").value(2));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockMentor
+    @DisplayName("[세션 일괄 생성] 세션 목록이 비어 있는 경우 -> 400 응답")
+    void createSessions_whenEmpty() throws Exception {
+        // given
+        SessionBulkCreateRequest request = new SessionBulkCreateRequest(List.of());
+
+        // when
+        ResultActions result = mockMvc.perform(
+                post("/api/sessions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        );
+
+        // then
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.success").value(false));
+        result.andExpect(jsonPath("$.payload.code").value(METHOD_ARG_NOT_VALID.getCode()));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[세션 일괄 생성] 일반 회원일 때 실패 -> 403 응답")
+    void createSessions_whenMemberIsUser() throws Exception {
+        // given
+        SessionBulkCreateRequest request = new SessionBulkCreateRequest(
+                List.of(RequestFactory.sessionCreateRequestWithDefaults()));
+
+        // when
+        ResultActions result = mockMvc.perform(
+                post("/api/sessions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        );
+
+        // then
+        result.andExpect(status().isForbidden());
+        result.andExpect(jsonPath("$.payload.code").value(FORBIDDEN.getCode()));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[세션 목록] 성공 -> 200 응답, 세션 목록 반환")
+    void getSessionFeed_whenSuccess() throws Exception {
+        // given
+        SessionFeedDto sessionFeedDto = DtoFactory.sessionFeedDtoWithDefaults();
+        given(sessionService.getSessionFeed(any(SessionFeedQueryDto.class))).willReturn(
+                sessionFeedDto);
+
+        // when
+        ResultActions result = mockMvc.perform(
+                get("/api/sessions")
+                        .param("sessionType", "MENTORING")
+                        .param("size", "10")
+        );
+
+        // then
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.success").value(true));
+        result.andExpect(jsonPath("$.payload.data.sessions[0].id").value(
+                sessionFeedDto.sessions().get(0).id()));
+        result.andExpect(jsonPath("$.payload.data.sessions[0].content").doesNotExist());
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[세션 목록] 잘못된 커서 -> 400 응답")
+    void getSessionFeed_whenInvalidCursor() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(
+                get("/api/sessions")
+                        .param("cursor", "invalid-cursor")
+        );
+
+        // then
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.success").value(false));
+        result.andExpect(jsonPath("$.payload.code").value(INVALID_CURSOR.getCode()));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[세션 목록] 허용 범위를 넘는 크기 -> 400 응답")
+    void getSessionFeed_whenSizeTooLarge() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(
+                get("/api/sessions")
+                        .param("size", "1000")
+        );
+
+        // then
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.success").value(false));
+        result.andExpect(jsonPath("$.payload.code").value(METHOD_ARG_NOT_VALID.getCode()));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[세션 조회] 성공 -> 200 응답, 세션 상세 반환")
+    void getSession_whenSuccess() throws Exception {
+        // given
+        SessionDetailDto sessionDetailDto = DtoFactory.sessionDetailDtoWithDefaults();
+        given(sessionService.getSession(anyLong())).willReturn(sessionDetailDto);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/sessions/{sessionId}", 1L));
+
+        // then
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.success").value(true));
+        result.andExpect(jsonPath("$.payload.data.content").value(sessionDetailDto.content()));
+        result.andExpect(jsonPath("$.payload.data.mentorName").value(sessionDetailDto.mentorName()));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[세션 조회] 세션을 찾을 수 없는 경우 -> 404 응답")
+    void getSession_whenSessionNotFound() throws Exception {
+        // given
+        given(sessionService.getSession(anyLong())).willThrow(new ApiException(SESSION_NOT_FOUND));
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/sessions/{sessionId}", 1L));
+
+        // then
+        result.andExpect(status().isNotFound());
+        result.andExpect(jsonPath("$.success").value(false));
+        result.andExpect(jsonPath("$.payload.code").value(SESSION_NOT_FOUND.getCode()));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[세션 검색] 성공 -> 200 응답, 점수순 결과 반환")
+    void searchSessions_whenSuccess() throws Exception {
+        // given
+        SessionSearchResultDto searchResult = SessionSearchResultDto.of(
+                DtoFactory.sessionSummaryDto(1L), 1.5);
+        given(sessionService.searchSessions(anyString(), anyInt())).willReturn(
+                List.of(searchResult));
+
+        // when
+        ResultActions result = mockMvc.perform(
+                get("/api/sessions/search")
+                        .param("query", "자바 멘토링")
+        );
+
+        // then
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.success").value(true));
+        result.andExpect(jsonPath("$.payload.data[0].id").value(searchResult.id()));
+        result.andExpect(jsonPath("$.payload.data[0].score").value(searchResult.score()));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[세션 검색] 검색어가 없는 경우 -> 400 응답")
+    void searchSessions_whenQueryBlank() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(
+                get("/api/sessions/search")
+                        .param("query", " ")
+        );
+
+        // then
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.success").value(false));
+        result.andExpect(jsonPath("$.payload.code").value(METHOD_ARG_NOT_VALID.getCode()));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[좌석 예약] 성공 -> 200 응답, 예약 id 반환")
+    void reserveSeat_whenSuccess() throws Exception {
+        // given
+        given(seatReservationService.reserve(any(ReservationDto.class))).willReturn(
+                ReservationIdDto.of(10L));
+
+        // when
+        ResultActions result = mockMvc.perform(post("/api/sessions/{sessionId}/reservations", 1L));
+
+        // then
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.success").value(true));
+        result.andExpect(jsonPath("$.payload.data.id").value(10));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[좌석 예약] 좌석이 없는 경우 -> 409 응답")
+    void reserveSeat_whenSessionFull() throws Exception {
+        // given
+        given(seatReservationService.reserve(any(ReservationDto.class))).willThrow(
+                new ApiException(SESSION_FULL));
+
+        // when
+        ResultActions result = mockMvc.perform(post("/api/sessions/{sessionId}/reservations", 1L));
+
+        // then
+        result.andExpect(status().isConflict());
+        result.andExpect(jsonPath("$.success").value(false));
+        result.andExpect(jsonPath("$.payload.code").value(SESSION_FULL.getCode()));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("[세션 내보내기] 관리자가 아닌 사용자 -> 403 응답")
+    void exportSessions_whenNotAdmin() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(get("/api/sessions/export").param("format", "csv"));
+
+        // then
+        result.andExpect(status().isForbidden());
+        result.andExpect(jsonPath("$.success").value(false));
+        result.andExpect(jsonPath("$.payload.code").value(FORBIDDEN.getCode()));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser(role = Role.ADMIN)
+    @DisplayName("[세션 내보내기] CSV 형식 -> 200 응답, 첨부 파일로 스트리밍")
+    void exportSessions_whenCsv() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("id,title\r\n1,세션\r\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).given(sessionExportService).export(any(ExportFormat.class), any(OutputStream.class));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/sessions/export").param("format", "csv"))
+                                     .andExpect(request().asyncStarted())
+                                     .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
+
+        // then
+        result.andExpect(status().isOk());
+        result.andExpect(content().contentTypeCompatibleWith("text/csv"));
+        result.andExpect(header().string("Content-Disposition",
+                                         "attachment; filename=\"sessions.csv\""));
+        result.andExpect(content().bytes("id,title\r\n1,세션\r\n".getBytes(StandardCharsets.UTF_8)));
+        result.andDo(print());
+    }
+
+    @Test
+    @WithCustomMockUser(role = Role.ADMIN)
+    @DisplayName("[세션 내보내기] 지원하지 않는 형식 -> 400 응답")
+    void exportSessions_whenUnknownFormat() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(get("/api/sessions/export").param("format", "xlsx"));
+
+        // then
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.success").value(false));
+        result.andExpect(jsonPath("$.payload.code").value(INVALID_EXPORT_FORMAT.getCode()));
+        result.andDo(print());
+    }
+}
@@ -1,22 +1,53 @@
 package org.mentalk.session;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mentalk.common.config.JpaAuditingConfig;
+import org.mentalk.common.config.JpaBatchConfig;
+import org.mentalk.common.enums.Role;
+import org.mentalk.common.enums.SessionType;
+import org.mentalk.common.export.ExportQueries;
+import org.mentalk.member.MemberRepository;
+import org.mentalk.member.domain.Member;
 import org.mentalk.session.domain.Session;
+import org.mentalk.session.dto.SessionDetailDto;
+import org.mentalk.session.dto.SessionExportDto;
+import org.mentalk.session.dto.SessionSummaryDto;
 import org.mentalk.utils.EntityFactory;
 import org.mentalk.utils.Value;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaAuditingConfig.class, JpaBatchConfig.class, ExportQueries.class})
 class SessionRepositoryTest {
 
     @Autowired
     private SessionRepository sessionRepository;
 
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ExportQueries exportQueries;
+
     @Test
     @DisplayName("[Session] NotNull 위반 -> 예외 발생")
     void whenNotNullViolation() {
@@ -25,7 +56,194 @@ class SessionRepositoryTest {
                                                 Value.of(null));
 
         // when & then
-        assertThatThrownBy(() -> sessionRepository.save(session)).isInstanceOf(
+        assertThatThrownBy(() -> sessionRepository.saveAndFlush(session)).isInstanceOf(
                 DataIntegrityViolationException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[Session] 커서 이후 목록 조회 -> 최신순, 중복 없이 반환")
+    void findFeed_whenCursorGiven() {
+        // given
+        Member mentor = memberRepository.save(
+                EntityFactory.member(Value.of("mentor"), Value.defaults(), Value.of(Role.MENTOR)));
+        for (int i = 0; i < 5; i++) {
+            sessionRepository.save(EntityFactory.session(Value.of(mentor), Value.defaults(),
+                                                         Value.of("Session " + i),
+                                                         Value.defaults()));
+        }
+
+        // when
+        List<SessionSummaryDto> firstPage = sessionRepository.findFeed(null, null, null, null,
+                                                                       PageRequest.ofSize(3));
+        SessionSummaryDto last = firstPage.get(firstPage.size() - 1);
+        List<SessionSummaryDto> secondPage = sessionRepository.findFeed(null, null,
+                                                                        last.createdTime(),
+                                                                        last.id(),
+                                                                        PageRequest.ofSize(3));
+
+        // then
+        assertThat(firstPage).extracting(SessionSummaryDto::title)
+                             .containsExactly("Session 4", "Session 3", "Session 2");
+        assertThat(secondPage).extracting(SessionSummaryDto::title)
+                              .containsExactly("Session 1", "Session 0");
+        assertThat(secondPage).allMatch(session -> session.mentorId().equals(mentor.getId()));
+    }
+
+    @Test
+    @DisplayName("[Session] 세션 유형 필터 -> 해당 유형만 반환")
+    void findFeed_whenSessionTypeGiven() {
+        // given
+        Member mentor = memberRepository.save(
+                EntityFactory.member(Value.of("mentor"), Value.defaults(), Value.of(Role.MENTOR)));
+        sessionRepository.save(EntityFactory.session(Value.of(mentor), Value.of(SessionType.LECTURE),
+                                                     Value.defaults(), Value.defaults()));
+        sessionRepository.save(EntityFactory.session(Value.of(mentor),
+                                                     Value.of(SessionType.COFFEE_CHAT),
+                                                     Value.defaults(), Value.defaults()));
+
+        // when
+        List<SessionSummaryDto> sessions = sessionRepository.findFeed(SessionType.LECTURE, null,
+                                                                      null, null,
+                                                                      PageRequest.ofSize(10));
+
+        // then
+        assertThat(sessions).extracting(SessionSummaryDto::sessionType)
+                            .containsExactly(SessionType.LECTURE);
+    }
+
+    @Test
+    @DisplayName("[Session] 상세 조회 -> 멘토 정보와 함께 반환")
+    void findDetailById() {
+        // given
+        Member mentor = memberRepository.save(
+                EntityFactory.member(Value.of("mentor"), Value.defaults(), Value.of(Role.MENTOR)));
+        Session session = sessionRepository.save(
+                EntityFactory.session(Value.of(mentor), Value.defaults(), Value.defaults(),
+                                      Value.of("Session Content")));
+
+        // when
+        Optional<SessionDetailDto> detail = sessionRepository.findDetailById(session.getId());
+
+        // then
+        assertThat(detail).isPresent();
+        assertThat(detail.get().content()).isEqualTo("Session Content");
+        assertThat(detail.get().mentorName()).isEqualTo("mentor");
+    }
+
+    @Test
+    @DisplayName("[Session] 여러 건 저장 -> 배치로 묶어 INSERT")
+    void saveAll_whenBatchInsert() {
+        // given
+        Member mentor = memberRepository.save(
+                EntityFactory.member(Value.defaults(), Value.defaults(), Value.of(Role.MENTOR)));
+        entityManager.flush();
+
+        List<Session> sessions = IntStream.range(0, 120)
+                                          .mapToObj(i -> EntityFactory.session(
+                                                  Value.of(mentor), Value.defaults(),
+                                                  Value.of("Session " + i), Value.defaults()))
+                                          .toList();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                                             .unwrap(SessionFactory.class)
+                                             .getStatistics();
+        statistics.clear();
+
+        // when
+        sessionRepository.saveAll(sessions);
+        entityManager.flush();
+
+        // then
+        assertThat(sessions).allMatch(session -> session.getId() != null);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+    }
+
+    @Test
+    @DisplayName("[Session] 좌석 예약 조건부 UPDATE -> 정원을 넘겨 증가하지 않음")
+    void incrementReservedCount_whenCapacityReached() {
+        // given
+        Member mentor = memberRepository.save(
+                EntityFactory.member(Value.of("mentor"), Value.defaults(), Value.of(Role.MENTOR)));
+        Session session = sessionRepository.save(Session.builder()
+                                                        .mentor(mentor)
+                                                        .sessionType(SessionType.LECTURE)
+                                                        .title("Lecture")
+                                                        .content("Lecture Content")
+                                                        .capacity(2)
+                                                        .build());
+        entityManager.flush();
+
+        // when
+        List<Integer> updated = IntStream.range(0, 3)
+                                         .mapToObj(i -> sessionRepository.incrementReservedCount(
+                                                 session.getId()))
+                                         .toList();
+
+        // then
+        assertThat(updated).containsExactly(1, 1, 0);
+        assertThat(sessionRepository.findRemainingSeats(session.getId())).contains(0);
+    }
+
+    @Test
+    @DisplayName("[Session] 내보내기 스트림 -> id 순으로 읽고 영속성 컨텍스트에 엔티티를 남기지 않음")
+    void streamExportQuery() {
+        // given
+        Member mentor = memberRepository.save(
+                EntityFactory.member(Value.of("mentor"), Value.defaults(), Value.of(Role.MENTOR)));
+        for (int i = 0; i < 3; i++) {
+            sessionRepository.save(EntityFactory.session(Value.of(mentor), Value.defaults(),
+                                                         Value.of("Session " + i),
+                                                         Value.defaults()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<SessionExportDto> rows;
+        try (Stream<SessionExportDto> stream = exportQueries.stream(
+                SessionExportService.EXPORT_QUERY, SessionExportDto.class)) {
+            rows = stream.toList();
+        }
+
+        // then
+        assertThat(rows).extracting(SessionExportDto::title)
+                        .containsExactly("Session 0", "Session 1", "Session 2");
+        assertThat(rows).extracting(SessionExportDto::mentorName).containsOnly("mentor");
+        assertThat(entityManager.unwrap(org.hibernate.Session.class)
+                                .getStatistics()
+                                .getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[Session] 생성 시각 기준 동기화 조회 -> 기준 시각 이후 생성된 세션을 id 순으로 이어서 반환")
+    void findDetailsCreatedSince_whenPaged() {
+        // given
+        Member mentor = memberRepository.save(
+                EntityFactory.member(Value.of("mentor"), Value.defaults(), Value.of(Role.MENTOR)));
+        for (int i = 0; i < 3; i++) {
+            sessionRepository.save(EntityFactory.session(Value.of(mentor), Value.defaults(),
+                                                         Value.of("Session " + i),
+                                                         Value.defaults()));
+        }
+        entityManager.flush();
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+
+        // when
+        List<SessionDetailDto> firstPage = sessionRepository.findDetailsCreatedSince(
+                since, 0L, PageRequest.ofSize(2));
+        SessionDetailDto last = firstPage.get(firstPage.size() - 1);
+        List<SessionDetailDto> secondPage = sessionRepository.findDetailsCreatedSince(
+                since, last.id(), PageRequest.ofSize(2));
+        List<SessionDetailDto> future = sessionRepository.findDetailsCreatedSince(
+                LocalDateTime.now().plusMinutes(1), 0L, PageRequest.ofSize(2));
+
+        // then
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage).extracting(SessionDetailDto::id)
+                              .doesNotContainAnyElementsOf(
+                                      firstPage.stream().map(SessionDetailDto::id).toList());
+        assertThat(future).isEmpty();
+    }
+}
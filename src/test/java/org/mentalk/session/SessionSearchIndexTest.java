@@ -0,0 +1,76 @@
+package org.mentalk.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mentalk.common.enums.SessionType;
+import org.mentalk.session.dto.SessionDetailDto;
+import org.mentalk.session.dto.SessionSearchResultDto;
+
+class SessionSearchIndexTest {
+
+    private final SessionSearchIndex sessionSearchIndex = new SessionSearchIndex();
+
+    @Test
+    @DisplayName("[세션 검색] 제목 일치 -> 본문 일치보다 높은 순위")
+    void search_whenTitleMatches() {
+        // given
+        sessionSearchIndex.index(session(1L, "면접 준비", "자바 백엔드 개발자의 면접 경험"));
+        sessionSearchIndex.index(session(2L, "자바 백엔드 멘토링", "커리어 고민 상담"));
+        sessionSearchIndex.index(session(3L, "디자인 포트폴리오", "포트폴리오 리뷰"));
+
+        // when
+        List<SessionSearchResultDto> results = sessionSearchIndex.search("자바 백엔드", 10);
+
+        // then
+        assertThat(results).extracting(SessionSearchResultDto::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("[세션 검색] 같은 세션 재색인 -> 이전 내용 제거")
+    void index_whenReindexed() {
+        // given
+        sessionSearchIndex.index(session(1L, "자바 멘토링", "자바"));
+        sessionSearchIndex.index(session(1L, "파이썬 멘토링", "파이썬"));
+
+        // when & then
+        assertThat(sessionSearchIndex.search("자바", 10)).isEmpty();
+        assertThat(sessionSearchIndex.search("파이썬", 10)).extracting(SessionSearchResultDto::id)
+                                                        .containsExactly(1L);
+        assertThat(sessionSearchIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[세션 검색] 스냅샷 저장 후 불러오기 -> 같은 검색 결과")
+    void saveAndLoad(@TempDir Path directory) throws IOException {
+        // given
+        sessionSearchIndex.index(session(1L, "Spring 입문", "스프링 부트로 시작하는 웹 개발"));
+        sessionSearchIndex.index(session(7L, "커피챗", "개발자 커리어 이야기"));
+        sessionSearchIndex.markSynced(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        Path snapshot = directory.resolve("session-search.idx");
+        sessionSearchIndex.save(snapshot);
+
+        SessionSearchIndex loadedIndex = new SessionSearchIndex();
+
+        // when
+        boolean loaded = loadedIndex.load(snapshot);
+
+        // then
+        assertThat(loaded).isTrue();
+        assertThat(loadedIndex.getLastIndexedId()).isEqualTo(7L);
+        assertThat(loadedIndex.getSyncedTime()).isEqualTo(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        assertThat(loadedIndex.search("spring 개발", 10)).isEqualTo(
+                sessionSearchIndex.search("spring 개발", 10));
+    }
+
+    private SessionDetailDto session(Long id, String title, String content) {
+        return new SessionDetailDto(id, SessionType.MENTORING, title, content, 1L, "mentor",
+                                    LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+}
@@ -3,28 +3,45 @@ package org.mentalk.session;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.Mockito.never;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mentalk.common.enums.ErrorCode;
+import org.mentalk.common.enums.OutboxEventType;
 import org.mentalk.common.exception.ApiException;
+import org.mentalk.common.outbox.OutboxPublisher;
 import org.mentalk.member.MemberRepository;
 import org.mentalk.member.domain.Member;
 import org.mentalk.session.domain.Session;
+import org.mentalk.session.dto.SessionBulkDto;
+import org.mentalk.session.dto.SessionCreatedEvent;
+import org.mentalk.session.dto.SessionCursor;
+import org.mentalk.session.dto.SessionDetailDto;
 import org.mentalk.session.dto.SessionDto;
+import org.mentalk.session.dto.SessionFeedDto;
+import org.mentalk.session.dto.SessionFeedQueryDto;
 import org.mentalk.session.dto.SessionIdDto;
+import org.mentalk.session.dto.SessionIdsDto;
+import org.mentalk.session.dto.SessionSummaryDto;
 import org.mentalk.utils.DtoFactory;
 import org.mentalk.utils.EntityFactory;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 class SessionServiceTest {
@@ -35,6 +52,18 @@ class SessionServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private SessionDetailCache sessionDetailCache;
+
+    @Mock
+    private SessionSearchIndex sessionSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
     @InjectMocks
     private SessionService sessionService;
 
@@ -58,6 +87,11 @@ class SessionServiceTest {
 
         verify(memberRepository, times(1)).findById(anyLong());
         verify(sessionRepository, times(1)).save(any(Session.class));
+        verify(sessionDetailCache, times(1)).evictAfterCommit(session.getId());
+        verify(eventPublisher, times(1)).publishEvent(any(SessionCreatedEvent.class));
+        verify(outboxPublisher, times(1)).publish(eq(OutboxEventType.SESSION_CREATED),
+                                                  eq(session.getId()),
+                                                  any(SessionDetailDto.class));
     }
 
     @Test
@@ -76,4 +110,110 @@ class SessionServiceTest {
         verify(memberRepository, times(1)).findById(anyLong());
         verify(sessionRepository, never()).save(any(Session.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[세션 일괄 생성] 성공 -> 생성된 세션 id 목록 반환")
+    void createSessions_whenSuccess() {
+        // given
+        SessionBulkDto sessionBulkDto = new SessionBulkDto(1L, List.of(
+                DtoFactory.sessionDtoWithDefaults(), DtoFactory.sessionDtoWithDefaults()));
+
+        Member mentor = EntityFactory.mentorWithDefaults();
+        given(memberRepository.findById(anyLong())).willReturn(Optional.of(mentor));
+
+        List<Session> sessions = List.of(EntityFactory.sessionWithDefaults(),
+                                         EntityFactory.sessionWithDefaults());
+        given(sessionRepository.saveAll(anyList())).willReturn(sessions);
+
+        // when
+        SessionIdsDto sessionIdsDto = sessionService.createSessions(sessionBulkDto);
+
+        // then
+        assertThat(sessionIdsDto.ids()).hasSize(2);
+
+        verify(memberRepository, times(1)).findById(anyLong());
+        verify(sessionRepository, times(1)).saveAll(anyList());
+        verify(eventPublisher, times(2)).publishEvent(any(SessionCreatedEvent.class));
+        verify(outboxPublisher, times(2)).publish(eq(OutboxEventType.SESSION_CREATED), anyLong(),
+                                                  any(SessionDetailDto.class));
+    }
+
+    @Test
+    @DisplayName("[세션 조회] 성공 -> 세션 상세 반환")
+    void getSession_whenSuccess() {
+        // given
+        SessionDetailDto sessionDetailDto = DtoFactory.sessionDetailDtoWithDefaults();
+        givenCacheMiss();
+        given(sessionRepository.findDetailById(anyLong())).willReturn(
+                Optional.of(sessionDetailDto));
+
+        // when
+        SessionDetailDto result = sessionService.getSession(1L);
+
+        // then
+        assertThat(result).isEqualTo(sessionDetailDto);
+
+        verify(sessionRepository, times(1)).findDetailById(1L);
+    }
+
+    @Test
+    @DisplayName("[세션 조회] 세션을 찾을 수 없는 경우 -> 예외 발생")
+    void getSession_whenSessionNotFound() {
+        // given
+        givenCacheMiss();
+        given(sessionRepository.findDetailById(anyLong())).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> sessionService.getSession(1L))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SESSION_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("[세션 목록] 다음 페이지가 있는 경우 -> 다음 커서 반환")
+    void getSessionFeed_whenHasNext() {
+        // given
+        SessionFeedQueryDto queryDto = new SessionFeedQueryDto(null, null, null, 2);
+
+        List<SessionSummaryDto> sessions = List.of(DtoFactory.sessionSummaryDto(3L),
+                                                   DtoFactory.sessionSummaryDto(2L),
+                                                   DtoFactory.sessionSummaryDto(1L));
+        given(sessionRepository.findFeed(isNull(), isNull(), isNull(), isNull(),
+                                         any(Pageable.class))).willReturn(sessions);
+
+        // when
+        SessionFeedDto sessionFeedDto = sessionService.getSessionFeed(queryDto);
+
+        // then
+        assertThat(sessionFeedDto.sessions()).extracting(SessionSummaryDto::id)
+                                             .containsExactly(3L, 2L);
+        assertThat(SessionCursor.decode(sessionFeedDto.nextCursor()).id()).isEqualTo(2L);
+
+        verify(sessionRepository, times(1)).findFeed(isNull(), isNull(), isNull(), isNull(),
+                                                     eq(Pageable.ofSize(3)));
+    }
+
+    @Test
+    @DisplayName("[세션 목록] 마지막 페이지인 경우 -> 다음 커서 없음")
+    void getSessionFeed_whenLastPage() {
+        // given
+        SessionFeedQueryDto queryDto = new SessionFeedQueryDto(null, null, null, 2);
+
+        List<SessionSummaryDto> sessions = List.of(DtoFactory.sessionSummaryDto(1L));
+        given(sessionRepository.findFeed(isNull(), isNull(), isNull(), isNull(),
+                                         any(Pageable.class))).willReturn(sessions);
+
+        // when
+        SessionFeedDto sessionFeedDto = sessionService.getSessionFeed(queryDto);
+
+        // then
+        assertThat(sessionFeedDto.sessions()).hasSize(1);
+        assertThat(sessionFeedDto.nextCursor()).isNull();
+    }
+
+    private void givenCacheMiss() {
+        given(sessionDetailCache.get(anyLong(), any())).willAnswer(
+                invocation -> invocation.<Function<Long, SessionDetailDto>>getArgument(1)
+                                        .apply(invocation.getArgument(0)));
+    }
+}
@@ -1,14 +1,20 @@
 package org.mentalk.utils;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import org.mentalk.auth.dto.EmailDto;
 import org.mentalk.auth.dto.JwtDto;
 import org.mentalk.auth.dto.LocalAccountDto;
 import org.mentalk.auth.dto.LocalLoginDto;
+import org.mentalk.auth.dto.LoginCredentialDto;
 import org.mentalk.common.enums.Role;
 import org.mentalk.common.enums.SessionType;
 import org.mentalk.member.dto.SignupDto;
+import org.mentalk.session.dto.SessionDetailDto;
 import org.mentalk.session.dto.SessionDto;
+import org.mentalk.session.dto.SessionFeedDto;
 import org.mentalk.session.dto.SessionIdDto;
+import org.mentalk.session.dto.SessionSummaryDto;
 
 public class DtoFactory {
 
@@ -22,7 +28,11 @@ public class DtoFactory {
     }
 
     public static LocalLoginDto localLoginDtoWithDefaults() {
-        return new LocalLoginDto("user@mentalk.com", "password");
+        return new LocalLoginDto("user@mentalk.com", "password", "127.0.0.1");
+    }
+
+    public static LoginCredentialDto loginCredentialDtoWithDefaults() {
+        return new LoginCredentialDto("hashedPassword", 1L, Role.USER);
     }
 
     public static JwtDto jwtDtoWithDefaults() {
@@ -30,13 +40,27 @@ public class DtoFactory {
     }
 
     public static SessionDto sessionDtoWithDefaults() {
-        return new SessionDto(SessionType.MENTORING, "Session Title", "Session Content", 1L);
+        return new SessionDto(SessionType.MENTORING, "Session Title", "Session Content", 1, 1L);
     }
 
     public static SessionIdDto sessionIdDtoWithDefaults() {
         return new SessionIdDto(1L);
     }
 
+    public static SessionDetailDto sessionDetailDtoWithDefaults() {
+        return new SessionDetailDto(1L, SessionType.MENTORING, "Session Title", "Session Content",
+                                    1L, "mentor", LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    public static SessionSummaryDto sessionSummaryDto(Long id) {
+        return new SessionSummaryDto(id, SessionType.MENTORING, "Session Title", 1L, "mentor",
+                                     LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id));
+    }
+
+    public static SessionFeedDto sessionFeedDtoWithDefaults() {
+        return new SessionFeedDto(List.of(sessionSummaryDto(1L)), null);
+    }
+
     public static EmailDto emailDtoWithDefaults() {
         return new EmailDto("user@mentalk.com");
     }
@@ -29,7 +29,7 @@ public class RequestFactory {
 
     public static SessionCreateRequest sessionCreateRequestWithDefaults() {
         return new SessionCreateRequest(SessionType.MENTORING, "Session Title",
-                                        "Session Content.");
+                                        "Session Content.", 1);
     }
 
     public static EmailFindRequest emailFindRequestWithDefaults() {
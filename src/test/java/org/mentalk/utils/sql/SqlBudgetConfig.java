@@ -0,0 +1,52 @@
+package org.mentalk.utils.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// @Import(SqlBudgetConfig.class)로 DataSource를 감싸고 요청마다 SQL을 모은다.
+@TestConfiguration
+public class SqlBudgetConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlRecordingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                    && !(bean instanceof SqlRecordingDataSource)) {
+                    return new SqlRecordingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public OncePerRequestFilter sqlRecordingFilter() {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request,
+                                            HttpServletResponse response,
+                                            FilterChain filterChain)
+                    throws ServletException, IOException {
+                SqlRecorder.startRequest(request.getMethod() + " " + request.getRequestURI());
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    SqlRecorder.endRequest();
+                }
+            }
+        };
+    }
+}
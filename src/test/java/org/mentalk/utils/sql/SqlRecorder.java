@@ -0,0 +1,85 @@
+package org.mentalk.utils.sql;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 실행된 SQL을 현재 스레드의 요청과 현재 트랜잭션에 나눠 기록한다.
+// 스케줄러 같은 다른 스레드의 쿼리는 요청 기록에 섞이지 않는다.
+public final class SqlRecorder {
+
+    private static final Object TRANSACTION_KEY = new Object();
+    private static final ThreadLocal<SqlStatements> currentRequest = new ThreadLocal<>();
+    private static final List<SqlStatements> requests = new CopyOnWriteArrayList<>();
+    private static final List<SqlStatements> transactions = new CopyOnWriteArrayList<>();
+
+    private SqlRecorder() {
+    }
+
+    public static void reset() {
+        requests.clear();
+        transactions.clear();
+    }
+
+    public static SqlStatements lastRequest() {
+        if (requests.isEmpty()) {
+            throw new AssertionError("No request has been recorded");
+        }
+        return requests.get(requests.size() - 1);
+    }
+
+    // 트랜잭션 이름은 @Transactional 메서드의 "클래스.메서드"로 끝난다.
+    public static SqlStatements lastTransaction(String nameSuffix) {
+        for (int i = transactions.size() - 1; i >= 0; i--) {
+            SqlStatements transaction = transactions.get(i);
+            if (transaction.name().endsWith(nameSuffix)) {
+                return transaction;
+            }
+        }
+        throw new AssertionError("No transaction named *" + nameSuffix + " in " + transactions);
+    }
+
+    static void startRequest(String name) {
+        currentRequest.set(new SqlStatements(name));
+    }
+
+    static void endRequest() {
+        SqlStatements request = currentRequest.get();
+        currentRequest.remove();
+        if (request != null) {
+            requests.add(request);
+        }
+    }
+
+    static void record(String sql) {
+        SqlStatements request = currentRequest.get();
+        if (request != null) {
+            request.add(sql);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            currentTransaction().add(sql);
+        }
+    }
+
+    private static SqlStatements currentTransaction() {
+        SqlStatements transaction = (SqlStatements) TransactionSynchronizationManager.getResource(
+                TRANSACTION_KEY);
+        if (transaction != null) {
+            return transaction;
+        }
+
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        SqlStatements created = new SqlStatements(name != null ? name : "transaction");
+        TransactionSynchronizationManager.bindResource(TRANSACTION_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_KEY);
+                transactions.add(created);
+            }
+        });
+        return created;
+    }
+}
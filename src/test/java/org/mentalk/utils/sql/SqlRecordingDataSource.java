@@ -0,0 +1,73 @@
+package org.mentalk.utils.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// 실행 시점(execute*, executeBatch)에 SQL을 기록한다. 배치는 한 번의 왕복이므로 한 번으로 센다.
+public class SqlRecordingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch",
+            "executeLargeBatch");
+
+    public SqlRecordingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxyConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxyConnection(super.getConnection(username, password));
+    }
+
+    private static Connection proxyConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                SqlRecordingDataSource.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return switch (method.getName()) {
+                        case "prepareStatement" -> proxyStatement(result, PreparedStatement.class,
+                                                                  (String) args[0]);
+                        case "prepareCall" -> proxyStatement(result, CallableStatement.class,
+                                                             (String) args[0]);
+                        case "createStatement" -> proxyStatement(result, Statement.class, null);
+                        default -> result;
+                    };
+                });
+    }
+
+    private static Object proxyStatement(Object statement, Class<?> type, String preparedSql) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                boolean hasSql = args != null && args.length > 0 && args[0] instanceof String;
+                SqlRecorder.record(hasSql ? (String) args[0] : preparedSql);
+            }
+            return invoke(statement, method, args);
+        };
+
+        return Proxy.newProxyInstance(SqlRecordingDataSource.class.getClassLoader(),
+                                      new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.mentalk.utils.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 한 요청 또는 한 트랜잭션에서 실행된 SQL 목록.
+public class SqlStatements {
+
+    private final String name;
+    private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+    SqlStatements(String name) {
+        this.name = name;
+    }
+
+    void add(String sql) {
+        statements.add(sql);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public List<String> statements() {
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+
+    public int count() {
+        return statements.size();
+    }
+
+    // 같은 SQL이 두 번 이상 실행된 것. 대부분 연관관계를 하나씩 읽는 N+1이다.
+    public Map<String, Integer> repeated() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        statements().forEach(sql -> counts.merge(sql, 1, Integer::sum));
+        counts.values().removeIf(count -> count < 2);
+        return counts;
+    }
+
+    public SqlStatements assertAtMost(int maximum) {
+        if (count() > maximum) {
+            throw new AssertionError("%s ran %d SQL statements, budget is %d:%n%s".formatted(
+                    name, count(), maximum, describe()));
+        }
+        return this;
+    }
+
+    public SqlStatements assertNoRepeatedStatements() {
+        Map<String, Integer> repeated = repeated();
+        if (!repeated.isEmpty()) {
+            throw new AssertionError("%s repeated SQL statements (possible N+1): %s%n%s".formatted(
+                    name, repeated, describe()));
+        }
+        return this;
+    }
+
+    private String describe() {
+        StringBuilder builder = new StringBuilder();
+        List<String> snapshot = statements();
+        for (int i = 0; i < snapshot.size(); i++) {
+            builder.append("  ").append(i + 1).append(". ").append(snapshot.get(i)).append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + count() + " statements)";
+    }
+}